@@ -0,0 +1,101 @@
+package com.budgee.service.impl.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.budgee.enums.TokenType;
+
+/**
+ * Access-token verification as the request filter does it: decoding the secret and building a
+ * parser per call (the code before {@link JwtKeyRegistry}), the registry's prebuilt parser, and a
+ * {@link VerifiedTokenCache} hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtParsingBenchmark {
+
+    static final String SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJraW5nLW9ubHktMzItYnl0ZXMhIQ==";
+
+    JwtKeyRegistry jwtKeyRegistry;
+    VerifiedTokenCache verifiedTokenCache;
+    String token;
+
+    @Setup
+    public void setUp() {
+        jwtKeyRegistry = new JwtKeyRegistry();
+        ReflectionTestUtils.setField(jwtKeyRegistry, "ACCESS_TOKEN_PRIVATE_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtKeyRegistry, "REFRESH_TOKEN_PRIVATE_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtKeyRegistry, "DEFAULT_KEY_ID", "default");
+        ReflectionTestUtils.setField(jwtKeyRegistry, "KEY_FILE", "");
+        jwtKeyRegistry.init();
+
+        verifiedTokenCache = new VerifiedTokenCache(jwtKeyRegistry, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "ENABLED", true);
+        ReflectionTestUtils.setField(verifiedTokenCache, "MAX_SIZE", 50_000);
+
+        token =
+                Jwts.builder()
+                        .claim("userId", UUID.randomUUID().toString())
+                        .claim("role", "USER")
+                        .setSubject("bench@budgee.local")
+                        .setIssuedAt(new Date())
+                        .setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+                        .setHeaderParam(
+                                JwsHeader.KEY_ID,
+                                jwtKeyRegistry.activeKeyId(TokenType.ACCESS_TOKEN))
+                        .signWith(
+                                jwtKeyRegistry.activeKey(TokenType.ACCESS_TOKEN),
+                                SignatureAlgorithm.HS256)
+                        .compact();
+    }
+
+    @Benchmark
+    public Claims decodeKeyPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims prebuiltParser() {
+        return verify();
+    }
+
+    @Benchmark
+    public Claims cachedClaims() {
+        return verifiedTokenCache.getOrVerify(TokenType.ACCESS_TOKEN, token, this::verify);
+    }
+
+    Claims verify() {
+        return jwtKeyRegistry.parser(TokenType.ACCESS_TOKEN).parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,57 @@
+package com.budgee.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Money#toMinorUnits} against the {@code setScale} conversion it replaced, over amounts
+ * shaped like DECIMAL(15,2) column values. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneyBenchmark {
+
+    BigDecimal[] amounts;
+    int next;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        amounts = new BigDecimal[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 1_000_000_000L), 2);
+        }
+    }
+
+    @Benchmark
+    public long setScale() {
+        return amount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    @Benchmark
+    public long toMinorUnits() {
+        return Money.toMinorUnits(amount());
+    }
+
+    BigDecimal amount() {
+        return amounts[next++ & (amounts.length - 1)];
+    }
+}
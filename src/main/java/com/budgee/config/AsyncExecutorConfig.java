@@ -27,6 +27,30 @@ public class AsyncExecutorConfig implements AsyncConfigurer {
     @Value("${budgee.executor.mail.core-size}")
     int EXECUTOR_MAIL_CORE_SIZE;
 
+    @NonFinal
+    @Value("${budgee.executor.rollup.max-size:4}")
+    int EXECUTOR_ROLLUP_MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.executor.rollup.core-size:2}")
+    int EXECUTOR_ROLLUP_CORE_SIZE;
+
+    @NonFinal
+    @Value("${budgee.executor.recurring.max-size:4}")
+    int EXECUTOR_RECURRING_MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.executor.recurring.core-size:2}")
+    int EXECUTOR_RECURRING_CORE_SIZE;
+
+    @NonFinal
+    @Value("${budgee.executor.reconciliation.max-size:4}")
+    int EXECUTOR_RECONCILIATION_MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.executor.reconciliation.core-size:4}")
+    int EXECUTOR_RECONCILIATION_CORE_SIZE;
+
     // -----------------------------------------
     // MAIL EXECUTOR
     // -----------------------------------------
@@ -46,6 +70,63 @@ public class AsyncExecutorConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // -----------------------------------------
+    // ROLLUP EXECUTOR
+    // -----------------------------------------
+    @Bean(name = "rollupExecutor")
+    public Executor rollupExecutor() {
+        log.info("[rollupExecutor] create rollupExecutor");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(EXECUTOR_ROLLUP_CORE_SIZE);
+        executor.setMaxPoolSize(EXECUTOR_ROLLUP_MAX_SIZE);
+        executor.setQueueCapacity(100);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("RollupExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    // -----------------------------------------
+    // RECURRING EXECUTOR
+    // -----------------------------------------
+    @Bean(name = "recurringExecutor")
+    public Executor recurringExecutor() {
+        log.info("[recurringExecutor] create recurringExecutor");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(EXECUTOR_RECURRING_CORE_SIZE);
+        executor.setMaxPoolSize(EXECUTOR_RECURRING_MAX_SIZE);
+        executor.setQueueCapacity(100);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("RecurringExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    // -----------------------------------------
+    // RECONCILIATION EXECUTOR
+    // -----------------------------------------
+    @Bean(name = "reconciliationExecutor")
+    public Executor reconciliationExecutor() {
+        log.info("[reconciliationExecutor] create reconciliationExecutor");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(EXECUTOR_RECONCILIATION_CORE_SIZE);
+        executor.setMaxPoolSize(EXECUTOR_RECONCILIATION_MAX_SIZE);
+        executor.setQueueCapacity(100);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("ReconciliationExecutor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return AsyncConfigurer.super.getAsyncUncaughtExceptionHandler();
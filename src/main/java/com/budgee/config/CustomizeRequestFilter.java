@@ -7,18 +7,22 @@ import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,10 +30,14 @@ import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.budgee.enums.AuthenticationMode;
+import com.budgee.exception.BudgeeException;
 import com.budgee.exception.ErrorCode;
 import com.budgee.payload.response.ErrorResponse;
 import com.budgee.service.JwtService;
+import com.budgee.service.impl.auth.AuthPrincipal;
 import com.budgee.service.impl.auth.UserDetailService;
+import com.budgee.service.impl.auth.UserStatusCache;
 import com.budgee.util.ResponseUtil;
 import com.google.gson.Gson;
 
@@ -45,6 +53,7 @@ public class CustomizeRequestFilter extends OncePerRequestFilter {
 
     JwtService jwtService;
     UserDetailService userDetails;
+    UserStatusCache userStatusCache;
 
     // -------------------------------------------------------------------
     // PRIVATE FIELDS
@@ -52,6 +61,10 @@ public class CustomizeRequestFilter extends OncePerRequestFilter {
 
     Gson gson;
 
+    @NonFinal
+    @Value("${budgee.security.authentication-mode:CLAIMS}")
+    AuthenticationMode AUTHENTICATION_MODE;
+
     // -------------------------------------------------------------------
     // CONFIGS
     // -------------------------------------------------------------------
@@ -68,26 +81,47 @@ public class CustomizeRequestFilter extends OncePerRequestFilter {
         if (StringUtils.hasLength(authHeader) && authHeader.startsWith("Bearer")) {
             String token = authHeader.substring(7);
             log.info("Token {}", token.substring(0, 10));
-            String email;
+
+            Object principal;
+            Collection<? extends GrantedAuthority> authorities;
 
             try {
-                email = jwtService.extractEmail(token, ACCESS_TOKEN);
-                log.info("email: {}", email);
+                if (AuthenticationMode.CLAIMS.equals(AUTHENTICATION_MODE)) {
+                    AuthPrincipal authPrincipal = jwtService.extractPrincipal(token, ACCESS_TOKEN);
+                    log.info("userId: {}", authPrincipal.userId());
+
+                    principal = authPrincipal;
+                    authorities = authPrincipal.getAuthorities();
+                } else {
+                    String email = jwtService.extractEmail(token, ACCESS_TOKEN);
+                    log.info("email: {}", email);
+
+                    UserDetails user = userDetails.userDetailsService().loadUserByUsername(email);
+
+                    principal = user;
+                    authorities = user.getAuthorities();
+                }
             } catch (Exception e) {
                 log.info(e.getMessage());
 
-                ResponseEntity<ErrorResponse> errorResponse =
-                        ResponseUtil.error(ErrorCode.EXPIRED_TOKEN);
-                response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                response.getWriter().write(gson.toJson(errorResponse.getBody()));
+                writeError(response, ErrorCode.EXPIRED_TOKEN);
                 return;
             }
 
-            UserDetails user = userDetails.userDetailsService().loadUserByUsername(email);
+            if (principal instanceof AuthPrincipal authPrincipal) {
+                try {
+                    userStatusCache.ensureIsActiveAccount(authPrincipal.userId());
+                } catch (BudgeeException e) {
+                    log.warn("[doFilterInternal] rejected userId={}", authPrincipal.userId());
+
+                    writeError(response, e.getErrorCode());
+                    return;
+                }
+            }
 
             SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
             UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                    new UsernamePasswordAuthenticationToken(principal, null, authorities);
             authToken.setDetails(new WebAuthenticationDetails(request));
             securityContext.setAuthentication(authToken);
             SecurityContextHolder.setContext(securityContext);
@@ -98,4 +132,14 @@ public class CustomizeRequestFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        ResponseEntity<ErrorResponse> errorResponse = ResponseUtil.error(errorCode);
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.getWriter().write(gson.toJson(errorResponse.getBody()));
+    }
 }
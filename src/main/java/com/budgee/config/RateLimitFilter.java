@@ -0,0 +1,82 @@
+package com.budgee.config;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Map;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.budgee.exception.ErrorCode;
+import com.budgee.service.impl.auth.RateLimiter;
+import com.budgee.util.ResponseUtil;
+import com.google.gson.Gson;
+
+/**
+ * Rejects callers over the per-IP limit of the matching endpoint before the request reaches a
+ * controller. Registered only inside the security filter chain, not as a servlet filter bean.
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "RATE-LIMIT-FILTER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // -------------------------------------------------------------------
+    // SERVICES
+    // -------------------------------------------------------------------
+
+    RateLimiter rateLimiter;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+
+    Gson gson;
+
+    // -------------------------------------------------------------------
+    // CONFIGS
+    // -------------------------------------------------------------------
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        String uri = request.getRequestURI();
+
+        for (Map.Entry<String, RateLimitProperties.Limit> entry :
+                rateLimiter.limits().entrySet()) {
+            if (!uri.equals(entry.getValue().path())) continue;
+
+            long retryAfterSeconds =
+                    rateLimiter.tryAcquire(entry.getKey(), request.getRemoteAddr());
+            if (retryAfterSeconds > 0) {
+                log.warn("[doFilterInternal] rate limited endpoint={}", entry.getKey());
+
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter()
+                        .write(
+                                gson.toJson(
+                                        ResponseUtil.error(ErrorCode.TOO_MANY_REQUESTS).getBody()));
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
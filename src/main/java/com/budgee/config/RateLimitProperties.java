@@ -0,0 +1,23 @@
+package com.budgee.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Token-bucket limits per named endpoint. A limit with a {@code path} is enforced by client IP in
+ * the security filter chain; limits without one are checked by services with their own key, e.g.
+ * an email address.
+ */
+@ConfigurationProperties(prefix = "budgee.rate-limit")
+public record RateLimitProperties(
+        boolean enabled, Duration idleTimeout, Map<String, Limit> endpoints) {
+
+    public RateLimitProperties {
+        if (idleTimeout == null) idleTimeout = Duration.ofMinutes(10);
+        if (endpoints == null) endpoints = Map.of();
+    }
+
+    public record Limit(String path, int capacity, Duration refillPeriod) {}
+}
@@ -23,7 +23,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.budgee.service.impl.auth.RateLimiter;
 import com.budgee.service.impl.auth.UserDetailService;
+import com.google.gson.Gson;
 
 @Configuration
 @RequiredArgsConstructor
@@ -37,11 +39,14 @@ public class WebSecurityConfig {
 
     UserDetailService userDetailService;
     CustomizeRequestFilter customizeRequestFilter;
+    RateLimiter rateLimiter;
 
     // -------------------------------------------------------------------
     // PRIVATE FIELDS
     // -------------------------------------------------------------------
 
+    Gson gson;
+
     String[] PUBLIC_ENDPOINT = {"/auth/**"};
 
     // -------------------------------------------------------------------
@@ -63,6 +68,9 @@ public class WebSecurityConfig {
                                     .authenticated();
                         })
                 .authenticationProvider(authenticationProvider())
+                .addFilterBefore(
+                        new RateLimitFilter(rateLimiter, gson),
+                        UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(
                         customizeRequestFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -6,16 +6,17 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.budgee.payload.request.group.GroupRequest;
 import com.budgee.payload.request.group.GroupTransactionRequest;
+import com.budgee.payload.response.group.GroupTransactionResponse;
 import com.budgee.service.GroupService;
 import com.budgee.service.GroupSharingService;
 import com.budgee.service.GroupTransactionService;
+import com.budgee.service.IdempotencyService;
 import com.budgee.util.MessageConstants;
 import com.budgee.util.ResponseUtil;
 
@@ -32,6 +33,7 @@ public class GroupController {
     GroupService groupService;
     GroupTransactionService groupTransactionService;
     GroupSharingService groupSharingService;
+    IdempotencyService idempotencyService;
 
     // -------------------------------------------------------------------
     // PUBLIC API
@@ -60,12 +62,19 @@ public class GroupController {
 
     @PostMapping("/{id}/transactions/")
     ResponseEntity<?> createGroupTransaction(
-            @PathVariable UUID id, @RequestBody GroupTransactionRequest request)
-            throws ExecutionException, InterruptedException {
+            @PathVariable UUID id,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false)
+                    String idempotencyKey,
+            @RequestBody GroupTransactionRequest request) {
         log.info("[POST /groups/{}/transactions/]={}", id, request);
 
         return ResponseUtil.created(
-                groupTransactionService.createGroupTransaction(id, request).get());
+                idempotencyService.execute(
+                        "group-transactions:" + id,
+                        idempotencyKey,
+                        request,
+                        GroupTransactionResponse.class,
+                        () -> groupTransactionService.createGroupTransaction(id, request).join()));
     }
 
     @DeleteMapping("/{id}/")
@@ -0,0 +1,91 @@
+package com.budgee.controller.client;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+import com.budgee.payload.request.ReportFilter;
+import com.budgee.service.ReportService;
+import com.budgee.util.MessageConstants;
+import com.budgee.util.ResponseUtil;
+
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+@Slf4j(topic = "REPORT-CONTROLLER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReportController {
+
+    // -------------------------------------------------------------------
+    // SERVICES
+    // -------------------------------------------------------------------
+
+    ReportService reportService;
+
+    // -------------------------------------------------------------------
+    // PUBLIC API
+    // -------------------------------------------------------------------
+
+    @GetMapping("/spending-by-category")
+    ResponseEntity<?> getSpendingByCategory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate toDate,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) List<UUID> walletIds,
+            @RequestParam(defaultValue = "false", required = false) boolean includeIgnored,
+            @RequestParam(required = false) Currency currency) {
+        log.info("[GET /reports/spending-by-category] fromDate={} toDate={}", fromDate, toDate);
+
+        ReportFilter filter =
+                new ReportFilter(fromDate, toDate, type, walletIds, includeIgnored, currency);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS, reportService.getSpendingByCategory(filter));
+    }
+
+    @GetMapping("/top-categories")
+    ResponseEntity<?> getTopCategories(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate toDate,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) List<UUID> walletIds,
+            @RequestParam(defaultValue = "false", required = false) boolean includeIgnored,
+            @RequestParam(defaultValue = "5", required = false) int limit,
+            @RequestParam(required = false) Currency currency) {
+        log.info("[GET /reports/top-categories] fromDate={} toDate={}", fromDate, toDate);
+
+        ReportFilter filter =
+                new ReportFilter(fromDate, toDate, type, walletIds, includeIgnored, currency);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS, reportService.getTopCategories(filter, limit));
+    }
+
+    @GetMapping("/cash-flow")
+    ResponseEntity<?> getCashFlow(
+            @RequestParam(defaultValue = "12", required = false) int months,
+            @RequestParam(required = false) List<UUID> walletIds,
+            @RequestParam(defaultValue = "false", required = false) boolean includeIgnored,
+            @RequestParam(required = false) Currency currency) {
+        log.info("[GET /reports/cash-flow] months={}", months);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS,
+                reportService.getCashFlow(months, walletIds, includeIgnored, currency));
+    }
+}
@@ -5,14 +5,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.UUID;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.budgee.enums.ExportFormat;
+import com.budgee.enums.StatementFormat;
+import com.budgee.enums.TransactionType;
+import com.budgee.payload.request.TransactionBatchRequest;
+import com.budgee.payload.request.TransactionFilter;
 import com.budgee.payload.request.TransactionRequest;
+import com.budgee.payload.response.TransactionResponse;
+import com.budgee.service.IdempotencyService;
+import com.budgee.service.TransactionBatchService;
+import com.budgee.service.TransactionExportService;
+import com.budgee.service.TransactionImportService;
 import com.budgee.service.TransactionService;
 import com.budgee.util.MessageConstants;
 import com.budgee.util.ResponseUtil;
@@ -29,16 +47,122 @@ public class TransactionController {
     // -------------------------------------------------------------------
 
     TransactionService transactionService;
+    TransactionImportService transactionImportService;
+    TransactionBatchService transactionBatchService;
+    TransactionExportService transactionExportService;
+    IdempotencyService idempotencyService;
 
     // -------------------------------------------------------------------
     // PUBLIC API
     // -------------------------------------------------------------------
 
     @PostMapping("/")
-    ResponseEntity<?> createTransaction(@RequestBody @Valid TransactionRequest request) {
+    ResponseEntity<?> createTransaction(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false)
+                    String idempotencyKey,
+            @RequestBody @Valid TransactionRequest request) {
         log.info("[POST /transactions/] {}", request.toString());
 
-        return ResponseUtil.created(transactionService.createTransaction(request));
+        return ResponseUtil.created(
+                idempotencyService.execute(
+                        "transactions",
+                        idempotencyKey,
+                        request,
+                        TransactionResponse.class,
+                        () -> transactionService.createTransaction(request)));
+    }
+
+    @GetMapping({"", "/"})
+    ResponseEntity<?> getTransactions(
+            @RequestParam(required = false) UUID walletId,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20", required = false) int size) {
+        log.info(
+                "[GET /transactions] walletId={} categoryId={} size={}",
+                walletId,
+                categoryId,
+                size);
+
+        TransactionFilter filter =
+                new TransactionFilter(walletId, categoryId, type, fromDate, toDate);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS,
+                transactionService.getTransactions(filter, cursor, size));
+    }
+
+    @PostMapping("/batch")
+    ResponseEntity<?> applyBatch(@RequestBody @Valid TransactionBatchRequest request) {
+        log.info("[POST /transactions/batch] operations={}", request.operations().size());
+
+        return ResponseUtil.success(
+                MessageConstants.UPDATE_SUCCESS, transactionBatchService.applyBatch(request));
+    }
+
+    @PostMapping(
+            value = "/import",
+            consumes = {
+                "text/csv",
+                "application/x-ofx",
+                MediaType.TEXT_PLAIN_VALUE,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE
+            })
+    ResponseEntity<?> importTransactions(
+            @RequestParam UUID walletId,
+            @RequestParam(required = false) UUID defaultCategoryId,
+            @RequestParam(defaultValue = "CSV", required = false) StatementFormat format,
+            @RequestParam(required = false) UUID importId,
+            @RequestParam(defaultValue = "0", required = false) long resumeAfterLine,
+            HttpServletRequest request)
+            throws IOException {
+        log.info("[POST /transactions/import] walletId={} format={}", walletId, format);
+
+        return ResponseUtil.created(
+                transactionImportService.importStatement(
+                        walletId,
+                        defaultCategoryId,
+                        format,
+                        importId,
+                        resumeAfterLine,
+                        request.getInputStream()));
+    }
+
+    @GetMapping("/import/{importId}")
+    ResponseEntity<?> getImportProgress(@PathVariable UUID importId) {
+        log.info("[GET /transactions/import/{}]", importId);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS,
+                transactionImportService.getImportProgress(importId));
+    }
+
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "CSV", required = false) ExportFormat format,
+            @RequestParam(defaultValue = "false", required = false) boolean gzip,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate toDate) {
+        log.info("[GET /transactions/export] format={} gzip={}", format, gzip);
+
+        StreamingResponseBody body =
+                transactionExportService.exportTransactions(format, gzip, fromDate, toDate);
+        String fileName = "transactions." + format.getExtension() + (gzip ? ".gz" : "");
+        String contentType = gzip ? "application/gzip" : format.getMediaType();
+
+        return ResponseEntity.ok()
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(MediaType.parseMediaType(contentType))
+                .body(body);
     }
 
     @PatchMapping("/{id}")
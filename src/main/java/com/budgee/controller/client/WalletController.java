@@ -17,6 +17,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.budgee.enums.Currency;
 import com.budgee.payload.request.WalletRequest;
 import com.budgee.payload.response.ErrorResponse;
 import com.budgee.payload.response.swagger.WalletApiResponse;
@@ -89,6 +90,20 @@ public class WalletController {
         return ResponseUtil.deleted();
     }
 
+    @GetMapping("/net-worth")
+    ResponseEntity<?> getNetWorth(
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(defaultValue = "false") boolean includeIgnored) {
+        log.info(
+                "[GET /wallets/net-worth] currency={} includeIgnored={}",
+                currency,
+                includeIgnored);
+
+        return ResponseUtil.success(
+                MessageConstants.FETCH_SUCCESS,
+                walletService.getNetWorth(currency, includeIgnored));
+    }
+
     @GetMapping("/list")
     ResponseEntity<?> getAllWallets() {
         log.info("[GET /wallets/list/]");
@@ -0,0 +1,7 @@
+package com.budgee.enums;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.budgee.enums;
+
+public enum StatementFormat {
+    CSV,
+    OFX
+}
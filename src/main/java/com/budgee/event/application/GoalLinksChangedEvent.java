@@ -0,0 +1,9 @@
+package com.budgee.event.application;
+
+import java.util.UUID;
+
+/**
+ * Application event fired when a Goal is created, edited or deleted, so caches of the owner's goal
+ * links are dropped once the change commits.
+ */
+public record GoalLinksChangedEvent(UUID goalId, UUID ownerId) {}
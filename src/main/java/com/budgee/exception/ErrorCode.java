@@ -96,6 +96,11 @@ public enum ErrorCode {
             3010, HttpStatus.BAD_REQUEST, "Sponsor and advanced only ine flag true"),
     INVALID_GROUP_TRANSACTION_SOURCE(
             3011, HttpStatus.BAD_REQUEST, "Invalid group transaction source"),
+    INVALID_CURSOR(3012, HttpStatus.BAD_REQUEST, "Invalid pagination cursor"),
+    IMPORT_NOT_FOUND(3013, HttpStatus.NOT_FOUND, "Import not found"),
+    INVALID_IMPORT_FILE(3014, HttpStatus.BAD_REQUEST, "Statement file could not be read"),
+    INVALID_BATCH_OPERATION(3015, HttpStatus.BAD_REQUEST, "Invalid batch operation"),
+    INVALID_REPORT_PERIOD(3016, HttpStatus.BAD_REQUEST, "Report period is invalid"),
 
     // Category-related errors (4000-4999)
     CATEGORY_NOT_FOUND(4000, HttpStatus.NOT_FOUND, "Category not found"),
@@ -104,6 +109,7 @@ public enum ErrorCode {
     CATEGORY_ALREADY_EXISTS(
             4003, HttpStatus.BAD_REQUEST, "Category name already exists for this user"),
     INVALID_PARENT_CATEGORY(4004, HttpStatus.BAD_REQUEST, "Invalid parent category"),
+    CATEGORY_NOT_DELETABLE(4005, HttpStatus.BAD_REQUEST, "System categories cannot be deleted"),
     CATEGORY_IS_REQUIRED(6002, HttpStatus.BAD_REQUEST, "Category is required"),
 
     // Debt-related errors (5000-5999)
@@ -117,6 +123,7 @@ public enum ErrorCode {
     AMOUNT_MUST_BE_POSITIVE(6001, HttpStatus.BAD_REQUEST, "Amount must be positive"),
     WALLET_IS_REQUIRED(6002, HttpStatus.BAD_REQUEST, "Wallet is required"),
     CONCURRENT_BALANCE_UPDATE(6003, HttpStatus.BAD_REQUEST, "Concurrent balance updated fail"),
+    FX_RATE_NOT_AVAILABLE(6004, HttpStatus.SERVICE_UNAVAILABLE, "Exchange rate is not available"),
 
     // General system errors (7000-7999)
     DATABASE_ERROR(7000, HttpStatus.INTERNAL_SERVER_ERROR, "Database operation failed"),
@@ -124,6 +131,12 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(7002, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred"),
     INVALID_REQUEST(7003, HttpStatus.BAD_REQUEST, "Invalid request data"),
     OPERATION_NOT_SUPPORTED(7004, HttpStatus.BAD_REQUEST, "Operation not supported"),
+    TOO_MANY_REQUESTS(
+            7005, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please try again later"),
+    IDEMPOTENCY_KEY_CONFLICT(
+            7006,
+            HttpStatus.CONFLICT,
+            "Idempotency key was already used for a different request"),
 
     // Goal-related errors (8000-8999)
     GOAL_NOT_FOUND(8000, HttpStatus.NOT_FOUND, "Goal not found"),
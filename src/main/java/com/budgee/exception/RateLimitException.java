@@ -0,0 +1,17 @@
+package com.budgee.exception;
+
+import lombok.Getter;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitException extends BudgeeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
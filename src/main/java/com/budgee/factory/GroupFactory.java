@@ -17,6 +17,7 @@ import com.budgee.model.User;
 import com.budgee.payload.request.group.GroupMemberRequest;
 import com.budgee.payload.request.group.GroupRequest;
 import com.budgee.service.validator.DateValidator;
+import com.budgee.util.MoneyAccumulator;
 
 @Component
 @RequiredArgsConstructor
@@ -65,8 +66,7 @@ public class GroupFactory {
     BigDecimal calculateInitialAdvanceBalance(GroupRequest request) {
         log.debug("[setCalculateInitialBalance]");
 
-        return request.groupMembers().stream()
-                .map(GroupMemberRequest::advanceAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return MoneyAccumulator.sum(request.groupMembers(), GroupMemberRequest::advanceAmount)
+                .toBigDecimal();
     }
 }
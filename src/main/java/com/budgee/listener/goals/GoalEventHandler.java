@@ -15,9 +15,14 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.budgee.event.application.CategoryDeletedEvent;
+import com.budgee.event.application.GoalLinksChangedEvent;
+import com.budgee.event.application.WalletDeletedEvent;
 import com.budgee.model.Goal;
 import com.budgee.repository.GoalCategoryRepository;
 import com.budgee.repository.GoalRepository;
+import com.budgee.repository.GoalWalletRepository;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.impl.goal.ActiveGoalIndex;
 
 @Component
 @RequiredArgsConstructor
@@ -30,6 +35,17 @@ public class GoalEventHandler {
     // -------------------------------------------------------------------
     GoalCategoryRepository goalCategoryRepository;
     GoalRepository goalRepository;
+    GoalWalletRepository goalWalletRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    GoalTrackingService goalTrackingService;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    ActiveGoalIndex activeGoalIndex;
 
     @Transactional
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
@@ -47,5 +63,26 @@ public class GoalEventHandler {
             log.info("[onCategoryDeleted] deleting {} orphan goals", orphanGoals.size());
             goalRepository.deleteAll(orphanGoals);
         }
+
+        goalTrackingService.recomputeUser(ownerId);
+    }
+
+    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWalletDeleted(WalletDeletedEvent event) {
+        UUID walletId = event.walletId();
+        UUID ownerId = event.ownerId();
+
+        log.info("[onWalletDeleted] walletId={} owner={}", walletId, ownerId);
+
+        goalWalletRepository.deleteAllByWalletId(walletId);
+        goalTrackingService.recomputeUser(ownerId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGoalLinksChanged(GoalLinksChangedEvent event) {
+        log.info("[onGoalLinksChanged] goalId={} owner={}", event.goalId(), event.ownerId());
+
+        activeGoalIndex.invalidate(event.ownerId());
     }
 }
@@ -0,0 +1,45 @@
+package com.budgee.listener.references;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgee.event.application.CategoryDeletedEvent;
+import com.budgee.event.application.WalletDeletedEvent;
+import com.budgee.service.impl.goal.ActiveGoalIndex;
+import com.budgee.service.lookup.UserReferenceCache;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "REFERENCE-CACHE-EVENT-HANDLER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReferenceCacheEventHandler {
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    ActiveGoalIndex activeGoalIndex;
+    UserReferenceCache userReferenceCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        log.info(
+                "[onCategoryDeleted] categoryId={} owner={}", event.categoryId(), event.ownerId());
+
+        userReferenceCache.invalidate(event.ownerId());
+        activeGoalIndex.invalidate(event.ownerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWalletDeleted(WalletDeletedEvent event) {
+        log.info("[onWalletDeleted] walletId={} owner={}", event.walletId(), event.ownerId());
+
+        userReferenceCache.invalidate(event.ownerId());
+        activeGoalIndex.invalidate(event.ownerId());
+    }
+}
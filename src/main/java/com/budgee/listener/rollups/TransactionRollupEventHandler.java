@@ -0,0 +1,45 @@
+package com.budgee.listener.rollups;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.budgee.event.application.CategoryDeletedEvent;
+import com.budgee.event.application.WalletDeletedEvent;
+import com.budgee.service.TransactionRollupService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "TRANSACTION-ROLLUP-EVENT-HANDLER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionRollupEventHandler {
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    TransactionRollupService transactionRollupService;
+
+    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        log.info(
+                "[onCategoryDeleted] categoryId={} owner={}", event.categoryId(), event.ownerId());
+
+        transactionRollupService.removeCategory(event.ownerId(), event.categoryId());
+    }
+
+    @Transactional
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWalletDeleted(WalletDeletedEvent event) {
+        log.info("[onWalletDeleted] walletId={} owner={}", event.walletId(), event.ownerId());
+
+        transactionRollupService.removeWallet(event.ownerId(), event.walletId());
+    }
+}
@@ -7,6 +7,7 @@ import com.budgee.model.Category;
 import com.budgee.model.User;
 import com.budgee.payload.request.CategoryRequest;
 import com.budgee.payload.response.CategoryResponse;
+import com.budgee.repository.projection.SystemCategory;
 
 @Mapper(componentModel = "spring")
 public interface CategoryMapper {
@@ -19,4 +20,9 @@ public interface CategoryMapper {
     @Mapping(target = "editable", expression = "java( !category.getIsDefault() )")
     @Mapping(target = "deletable", expression = "java( !category.getIsDefault() )")
     CategoryResponse toCategoryResponse(Category category);
+
+    @Mapping(target = "categoryId", source = "id")
+    @Mapping(target = "editable", constant = "false")
+    @Mapping(target = "deletable", constant = "false")
+    CategoryResponse toCategoryResponse(SystemCategory category);
 }
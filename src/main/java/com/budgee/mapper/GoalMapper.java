@@ -1,5 +1,8 @@
 package com.budgee.mapper;
 
+import java.util.List;
+import java.util.UUID;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -7,6 +10,7 @@ import com.budgee.model.Goal;
 import com.budgee.model.User;
 import com.budgee.payload.request.GoalRequest;
 import com.budgee.payload.response.GoalResponse;
+import com.budgee.repository.projection.GoalProgress;
 
 @Mapper(componentModel = "spring")
 public interface GoalMapper {
@@ -25,4 +29,8 @@ public interface GoalMapper {
             expression =
                     "java(goal.getGoalWallets().stream().map(gw -> gw.getWallet().getId()).toList())")
     GoalResponse toGoalResponse(Goal goal);
+
+    @Mapping(target = "goalId", source = "progress.id")
+    GoalResponse toGoalResponse(
+            GoalProgress progress, List<UUID> categoriesId, List<UUID> walletsId);
 }
@@ -6,6 +6,7 @@ import lombok.experimental.FieldDefaults;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.budgee.enums.TransactionType;
@@ -14,6 +15,7 @@ import com.budgee.enums.TransactionType;
 @Setter
 @Entity
 @Table(name = "categories")
+@SQLRestriction("deleted = false")
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
 @Builder
@@ -0,0 +1,56 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import com.budgee.enums.TransactionType;
+
+/**
+ * Pre-aggregated transaction totals per user, wallet, category, type and day. Maintained
+ * incrementally by native upserts; ids are plain columns, not associations, and a missing category
+ * is stored as the zero UUID so it can be part of the unique key.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "transaction_daily_rollups",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_daily_rollup_key",
+                        columnNames = {"user_id", "wallet_id", "category_id", "type", "day"}),
+        indexes = @Index(name = "idx_daily_rollup_user_day", columnList = "user_id, day"))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTransactionRollup extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    UUID userId;
+
+    @Column(name = "wallet_id", nullable = false)
+    UUID walletId;
+
+    @Column(name = "category_id", nullable = false)
+    UUID categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    TransactionType type;
+
+    @Column(name = "day", nullable = false)
+    LocalDate day;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    BigDecimal totalAmount;
+
+    @Column(name = "tx_count", nullable = false)
+    long txCount;
+}
@@ -0,0 +1,29 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.*;
+
+import com.budgee.enums.Currency;
+
+/** Value of one unit of {@code currency} in the configured base currency. */
+@Getter
+@Setter
+@Entity
+@Table(name = "fx_rates")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FxRate extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, unique = true, length = 3)
+    Currency currency;
+
+    @Column(nullable = false, precision = 24, scale = 10)
+    BigDecimal rate;
+}
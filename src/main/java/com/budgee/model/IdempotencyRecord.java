@@ -0,0 +1,49 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+/**
+ * Result of a create request sent with an {@code Idempotency-Key}. Rows are written and read with
+ * plain JDBC; the entity only declares the table. {@code responseBody} is null while the first
+ * request is still running.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_idempotency_keys_user_scope_key",
+                        columnNames = {"user_id", "scope", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at"))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    UUID userId;
+
+    @Column(nullable = false, length = 100)
+    String scope;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    String requestHash;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+}
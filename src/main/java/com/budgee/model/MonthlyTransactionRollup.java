@@ -0,0 +1,61 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import com.budgee.enums.TransactionType;
+
+/**
+ * Pre-aggregated transaction totals per user, wallet, category, type and month (first day of
+ * the month). Maintained incrementally by native upserts; ids are plain columns, not associations,
+ * and a missing category is stored as the zero UUID so it can be part of the unique key.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "transaction_monthly_rollups",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_monthly_rollup_key",
+                        columnNames = {
+                            "user_id", "wallet_id", "category_id", "type", "month_start"
+                        }),
+        indexes =
+                @Index(
+                        name = "idx_monthly_rollup_user_month",
+                        columnList = "user_id, month_start"))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyTransactionRollup extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    UUID userId;
+
+    @Column(name = "wallet_id", nullable = false)
+    UUID walletId;
+
+    @Column(name = "category_id", nullable = false)
+    UUID categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    TransactionType type;
+
+    @Column(name = "month_start", nullable = false)
+    LocalDate monthStart;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    BigDecimal totalAmount;
+
+    @Column(name = "tx_count", nullable = false)
+    long txCount;
+}
@@ -17,7 +17,9 @@ import com.budgee.enums.TransactionType;
 @Getter
 @Setter
 @Entity
-@Table(name = "recurring_transactions")
+@Table(
+        name = "recurring_transactions",
+        indexes = @Index(name = "idx_recurring_transactions_next_date", columnList = "next_date"))
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
 @Builder
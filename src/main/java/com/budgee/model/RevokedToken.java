@@ -0,0 +1,30 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = {
+            @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+            @Index(name = "idx_revoked_tokens_created_at", columnList = "created_at")
+        })
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken extends BaseEntity {
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+}
@@ -17,7 +17,17 @@ import com.budgee.enums.TransactionType;
 @Getter
 @Setter
 @Entity
-@Table(name = "transactions")
+@Table(
+        name = "transactions",
+        uniqueConstraints =
+                // one row per recurrence occurrence; MySQL allows any number of null recurring_id
+                @UniqueConstraint(
+                        name = "uk_transactions_recurring_date",
+                        columnNames = {"recurring_id", "date"}),
+        indexes =
+                @Index(
+                        name = "idx_transactions_user_date_time_id",
+                        columnList = "user_id, date, time, id"))
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
 @Builder
@@ -14,7 +14,14 @@ import com.budgee.enums.VerificationType;
 @Getter
 @Setter
 @Entity
-@Table(name = "verification_codes")
+@Table(
+        name = "verification_codes",
+        indexes = {
+            @Index(
+                    name = "idx_verification_codes_user_type_created",
+                    columnList = "user_id, type, created_at"),
+            @Index(name = "idx_verification_codes_expires_at", columnList = "expires_at")
+        })
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
 @Builder
@@ -8,6 +8,7 @@ import java.math.BigDecimal;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.budgee.enums.Currency;
@@ -19,6 +20,7 @@ import com.budgee.exception.ValidationException;
 @Setter
 @Entity
 @Table(name = "wallets")
+@SQLRestriction("deleted = false")
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @EntityListeners(AuditingEntityListener.class)
 @Builder
@@ -47,6 +49,13 @@ public class Wallet extends BaseEntity implements OwnerEntity {
     @Column(precision = 15, scale = 2)
     BigDecimal balance = BigDecimal.ZERO;
 
+    /**
+     * Balance before any transaction: the amount entered on creation, moved by every manual balance
+     * edit. {@code null} for wallets created before it existed until reconciliation seeds it.
+     */
+    @Column(name = "opening_balance", precision = 15, scale = 2)
+    BigDecimal openingBalance;
+
     @Enumerated(EnumType.STRING)
     Currency currency;
 
@@ -0,0 +1,50 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+/** A wallet whose stored balance did not match its opening balance plus its transactions. */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "wallet_balance_mismatches",
+        uniqueConstraints =
+                // one row per wallet and run; also serves lookups by run
+                @UniqueConstraint(
+                        name = "uk_balance_mismatches_run_wallet",
+                        columnNames = {"run_id", "wallet_id"}),
+        indexes = @Index(name = "idx_balance_mismatches_wallet", columnList = "wallet_id"))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletBalanceMismatch extends BaseEntity {
+
+    @Column(name = "run_id", nullable = false)
+    UUID runId;
+
+    @Column(name = "wallet_id", nullable = false)
+    UUID walletId;
+
+    @Column(name = "user_id", nullable = false)
+    UUID userId;
+
+    @Column(name = "recorded_balance", nullable = false, precision = 15, scale = 2)
+    BigDecimal recordedBalance;
+
+    @Column(name = "expected_balance", nullable = false, precision = 15, scale = 2)
+    BigDecimal expectedBalance;
+
+    /** {@code expected - recorded}; the delta auto-fix applies. */
+    @Column(nullable = false, precision = 15, scale = 2)
+    BigDecimal drift;
+
+    @Column(nullable = false)
+    boolean fixed;
+}
@@ -0,0 +1,53 @@
+package com.budgee.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import com.budgee.enums.ReconciliationStatus;
+
+/**
+ * One pass of the wallet balance reconciliation. {@code lastWalletId} is the checkpoint: wallets
+ * are visited in id order and a run left {@code RUNNING} resumes after it.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+        name = "wallet_reconciliation_runs",
+        indexes = @Index(name = "idx_reconciliation_runs_status", columnList = "status"))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletReconciliationRun extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    ReconciliationStatus status;
+
+    @Column(name = "auto_fix", nullable = false)
+    boolean autoFix;
+
+    @Column(name = "last_wallet_id")
+    UUID lastWalletId;
+
+    @Column(name = "wallets_checked", nullable = false)
+    long walletsChecked;
+
+    @Column(name = "mismatches", nullable = false)
+    long mismatches;
+
+    @Column(name = "fixed", nullable = false)
+    long fixed;
+
+    @Column(name = "baselined", nullable = false)
+    long baselined;
+
+    @Column(name = "finished_at")
+    Instant finishedAt;
+}
@@ -0,0 +1,17 @@
+package com.budgee.payload.request;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+
+/** Report criteria; totals are converted to {@code currency}, or the FX base when null. */
+public record ReportFilter(
+        LocalDate fromDate,
+        LocalDate toDate,
+        TransactionType type,
+        List<UUID> walletIds,
+        boolean includeIgnored,
+        Currency currency) {}
@@ -0,0 +1,16 @@
+package com.budgee.payload.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Operations are not validated with the request: each one is validated on its own when it is
+ * applied, so an invalid item fails alone instead of rejecting the whole batch.
+ */
+public record TransactionBatchRequest(
+        @NotEmpty(message = "Operations are required")
+                @Size(max = 200, message = "At most 200 operations per batch")
+                List<@NotNull TransactionMutation> operations) {}
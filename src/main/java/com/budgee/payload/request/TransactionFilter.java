@@ -0,0 +1,13 @@
+package com.budgee.payload.request;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.budgee.enums.TransactionType;
+
+public record TransactionFilter(
+        UUID walletId,
+        UUID categoryId,
+        TransactionType type,
+        LocalDate fromDate,
+        LocalDate toDate) {}
@@ -0,0 +1,17 @@
+package com.budgee.payload.request;
+
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import com.budgee.enums.BatchOperation;
+
+/**
+ * One queued change. {@code transactionId} is required for UPDATE and DELETE, {@code data} for
+ * CREATE and UPDATE.
+ */
+public record TransactionMutation(
+        @NotNull(message = "Operation is required") BatchOperation op,
+        UUID transactionId,
+        @Valid TransactionRequest data) {}
@@ -0,0 +1,23 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CashFlowEntry implements Serializable {
+
+    LocalDate month;
+    BigDecimal income;
+    BigDecimal expense;
+    BigDecimal net;
+    long txCount;
+}
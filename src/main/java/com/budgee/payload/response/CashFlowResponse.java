@@ -0,0 +1,29 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.budgee.enums.Currency;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CashFlowResponse implements Serializable {
+
+    LocalDate fromMonth;
+    LocalDate toMonth;
+    Currency currency;
+    Instant ratesAsOf;
+    BigDecimal totalIncome;
+    BigDecimal totalExpense;
+    List<CashFlowEntry> months;
+}
@@ -0,0 +1,31 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+import com.budgee.repository.projection.CategoryTotal;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CategoryReportResponse implements Serializable {
+
+    LocalDate fromDate;
+    LocalDate toDate;
+    TransactionType type;
+    Currency currency;
+    Instant ratesAsOf;
+    BigDecimal total;
+    List<CategoryTotal> categories;
+}
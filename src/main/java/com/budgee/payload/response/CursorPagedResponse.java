@@ -0,0 +1,6 @@
+package com.budgee.payload.response;
+
+import java.util.List;
+
+public record CursorPagedResponse<T>(
+        List<T> content, int size, String nextCursor, boolean hasNext) {}
@@ -0,0 +1,29 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.budgee.enums.ImportStatus;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ImportProgressResponse implements Serializable {
+
+    UUID importId;
+    ImportStatus status;
+    long rowsRead;
+    long rowsImported;
+    long rowsRejected;
+    long committedThroughLine;
+    List<String> errors;
+    Instant startedAt;
+    Instant finishedAt;
+}
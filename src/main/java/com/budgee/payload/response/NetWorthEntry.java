@@ -0,0 +1,22 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.budgee.enums.Currency;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NetWorthEntry implements Serializable {
+
+    Currency currency;
+    BigDecimal balance;
+    BigDecimal converted;
+}
@@ -0,0 +1,25 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.budgee.enums.Currency;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NetWorthResponse implements Serializable {
+
+    Currency currency;
+    BigDecimal total;
+    Instant ratesAsOf;
+    List<NetWorthEntry> currencies;
+}
@@ -0,0 +1,25 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import com.budgee.enums.BatchOperation;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransactionBatchItemResult implements Serializable {
+
+    int index;
+    BatchOperation op;
+    boolean success;
+    UUID transactionId;
+    TransactionResponse transaction;
+    Integer errorCode;
+    String message;
+}
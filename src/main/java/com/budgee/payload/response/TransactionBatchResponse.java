@@ -0,0 +1,19 @@
+package com.budgee.payload.response;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransactionBatchResponse implements Serializable {
+
+    int succeeded;
+    int failed;
+    List<TransactionBatchItemResult> results;
+}
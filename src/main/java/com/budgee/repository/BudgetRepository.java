@@ -0,0 +1,67 @@
+package com.budgee.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.model.Budget;
+import com.budgee.repository.projection.BudgetWindow;
+
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, UUID> {
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.BudgetWindow(
+                b.id, c.id, w.id, b.startDate, b.endDate)
+            from Budget b
+            left join b.category c
+            left join b.wallet w
+            where b.user.id = :userId and b.endDate >= :today
+              and (b.category is null
+                   or exists (select 1 from Category live where live.id = b.category.id))
+              and (b.wallet is null
+                   or exists (select 1 from Wallet live where live.id = b.wallet.id))
+            """)
+    List<BudgetWindow> findActiveWindows(
+            @Param("userId") UUID userId, @Param("today") LocalDate today);
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.BudgetWindow(
+                b.id, c.id, w.id, b.startDate, b.endDate)
+            from Budget b
+            left join b.category c
+            left join b.wallet w
+            where b.user.id = :userId and b.startDate <= :to and b.endDate >= :from
+              and (b.category is null
+                   or exists (select 1 from Category live where live.id = b.category.id))
+              and (b.wallet is null
+                   or exists (select 1 from Wallet live where live.id = b.wallet.id))
+            """)
+    List<BudgetWindow> findWindowsOverlapping(
+            @Param("userId") UUID userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(
+            """
+            update Budget b
+            set b.currentSpent = b.currentSpent + :delta,
+                b.updatedAt = :updatedAt
+            where b.id = :id
+            """)
+    int applySpentDelta(
+            @Param("id") UUID id,
+            @Param("delta") BigDecimal delta,
+            @Param("updatedAt") Instant updatedAt);
+}
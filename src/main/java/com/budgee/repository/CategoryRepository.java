@@ -1,17 +1,55 @@
 package com.budgee.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.model.Category;
 import com.budgee.model.User;
+import com.budgee.repository.projection.CategoryRef;
+import com.budgee.repository.projection.SystemCategory;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     Page<Category> findAllByUser(User user, Pageable pageable);
+
+    /** The user's own categories; system categories are served by the catalog instead. */
+    Page<Category> findAllByUserAndIsDefaultFalse(User user, Pageable pageable);
+
+    long countByUserAndIsDefaultFalse(User user);
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.SystemCategory(
+                c.id, c.name, c.type, c.description, c.color, c.icon)
+            from Category c
+            where c.isDefault = true
+            order by c.name
+            """)
+    List<SystemCategory> findSystemCategories();
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.CategoryRef(c.id, c.name, c.type)
+            from Category c
+            where c.user.id = :userId
+            """)
+    List<CategoryRef> findRefsByUserId(@Param("userId") UUID userId);
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.CategoryRef(c.id, c.name, c.type)
+            from Category c
+            where c.user.id = :userId and c.id in :ids
+            """)
+    List<CategoryRef> findRefsByUserIdAndIdIn(
+            @Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,61 @@
+package com.budgee.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.enums.TransactionType;
+import com.budgee.model.DailyTransactionRollup;
+import com.budgee.repository.projection.CategoryTotal;
+
+@Repository
+public interface DailyTransactionRollupRepository
+        extends JpaRepository<DailyTransactionRollup, UUID> {
+
+    /** Category totals per wallet currency over an arbitrary date range. */
+    @Query(
+            """
+            select new com.budgee.repository.projection.CategoryTotal(
+                r.categoryId, c.name, r.type, w.currency, sum(r.totalAmount), sum(r.txCount))
+            from DailyTransactionRollup r
+            join Wallet w on w.id = r.walletId
+            left join Category c on c.id = r.categoryId
+            where r.userId = :userId
+              and r.walletId in :walletIds
+              and r.day between :from and :to
+              and (:type is null or r.type = :type)
+            group by r.categoryId, c.name, r.type, w.currency
+            having sum(r.txCount) > 0
+            """)
+    List<CategoryTotal> sumByCategory(
+            @Param("userId") UUID userId,
+            @Param("walletIds") Collection<UUID> walletIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("type") TransactionType type);
+
+    /** Amount of transactions in the given wallets and categories; a null {@code to} is open. */
+    @Query(
+            """
+            select coalesce(sum(r.totalAmount), 0)
+            from DailyTransactionRollup r
+            where r.userId = :userId
+              and r.walletId in :walletIds
+              and r.categoryId in :categoryIds
+              and r.day >= :from
+              and (:to is null or r.day <= :to)
+            """)
+    BigDecimal sumForLinks(
+            @Param("userId") UUID userId,
+            @Param("walletIds") Collection<UUID> walletIds,
+            @Param("categoryIds") Collection<UUID> categoryIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
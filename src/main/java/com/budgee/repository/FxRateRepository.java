@@ -0,0 +1,11 @@
+package com.budgee.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.model.FxRate;
+
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, UUID> {}
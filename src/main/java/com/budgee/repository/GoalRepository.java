@@ -1,15 +1,21 @@
 package com.budgee.repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.model.Goal;
 import com.budgee.model.User;
+import com.budgee.repository.projection.GoalLink;
+import com.budgee.repository.projection.GoalProgressRow;
 
 @Repository
 public interface GoalRepository extends JpaRepository<Goal, UUID> {
@@ -29,4 +35,46 @@ public interface GoalRepository extends JpaRepository<Goal, UUID> {
             @Param("userId") UUID userId, @Param("categoryId") UUID categoryId);
 
     List<Goal> findAllByUser(User user);
+
+    /** The user's goals with every linked wallet/category pair, in one round trip. */
+    @Query(
+            """
+            select new com.budgee.repository.projection.GoalProgressRow(
+                g.id, g.name, g.currentAmount, g.targetAmount, g.startDate, g.endDate,
+                gw.wallet.id, gc.category.id)
+            from Goal g
+            left join g.goalWallets gw
+            left join g.goalCategories gc
+            where g.user.id = :userId
+            order by g.startDate, g.id
+            """)
+    List<GoalProgressRow> findProgressByUserId(@Param("userId") UUID userId);
+
+    /** Wallet/category pairs of the user's goals that are still open on {@code from}. */
+    @Query(
+            """
+            select new com.budgee.repository.projection.GoalLink(
+                g.id, gw.wallet.id, gc.category.id, g.startDate, g.endDate)
+            from Goal g
+            join g.goalWallets gw
+            join g.goalCategories gc
+            where g.user.id = :userId and (g.endDate is null or g.endDate >= :from)
+            """)
+    List<GoalLink> findLinksByUserId(@Param("userId") UUID userId, @Param("from") LocalDate from);
+
+    @Query("select distinct g.user.id from Goal g")
+    List<UUID> findUserIdsWithGoals();
+
+    @Modifying
+    @Query(
+            """
+            update Goal g
+            set g.currentAmount = g.currentAmount + :delta,
+                g.updatedAt = :updatedAt
+            where g.id = :id
+            """)
+    int applyAmountDelta(
+            @Param("id") UUID id,
+            @Param("delta") BigDecimal delta,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -3,9 +3,17 @@ package com.budgee.repository;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.model.GoalWallet;
 
 @Repository
-public interface GoalWalletRepository extends JpaRepository<GoalWallet, UUID> {}
+public interface GoalWalletRepository extends JpaRepository<GoalWallet, UUID> {
+
+    @Modifying
+    @Query("delete from GoalWallet gw where gw.wallet.id = :walletId")
+    void deleteAllByWalletId(@Param("walletId") UUID walletId);
+}
@@ -1,5 +1,6 @@
 package com.budgee.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.model.*;
+import com.budgee.repository.projection.GroupTotals;
 
 @Repository
 public interface GroupTransactionRepository extends JpaRepository<GroupTransaction, UUID> {
@@ -19,6 +21,32 @@ public interface GroupTransactionRepository extends JpaRepository<GroupTransacti
 
     void deleteAllByGroupId(UUID groupId);
 
+    /**
+     * Income, expense, sponsorship and member-advance totals for each of the given groups, in one
+     * grouped query. Groups without transactions have no row.
+     */
+    @Query(
+            """
+            select new com.budgee.repository.projection.GroupTotals(
+                gt.group.id,
+                sum(case when gt.type = com.budgee.enums.TransactionType.INCOME
+                         then gt.amount end),
+                sum(case when gt.type = com.budgee.enums.TransactionType.EXPENSE
+                         then gt.amount end),
+                sum(case when gt.type = com.budgee.enums.TransactionType.CONTRIBUTE
+                           or (gt.type = com.budgee.enums.TransactionType.EXPENSE
+                               and gt.groupExpenseSource
+                                   = com.budgee.enums.GroupExpenseSource.MEMBER_SPONSOR)
+                         then gt.amount end),
+                sum(case when gt.groupExpenseSource
+                              = com.budgee.enums.GroupExpenseSource.MEMBER_ADVANCE
+                         then gt.amount end))
+            from GroupTransaction gt
+            where gt.group.id in :groupIds
+            group by gt.group.id
+            """)
+    List<GroupTotals> sumTotalsByGroupIds(@Param("groupIds") Collection<UUID> groupIds);
+
     @Query(
             """
         SELECT gt
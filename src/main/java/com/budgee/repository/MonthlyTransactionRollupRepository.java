@@ -0,0 +1,61 @@
+package com.budgee.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.enums.TransactionType;
+import com.budgee.model.MonthlyTransactionRollup;
+import com.budgee.repository.projection.CategoryTotal;
+import com.budgee.repository.projection.PeriodTotal;
+
+@Repository
+public interface MonthlyTransactionRollupRepository
+        extends JpaRepository<MonthlyTransactionRollup, UUID> {
+
+    /** Category totals per wallet currency over whole months. */
+    @Query(
+            """
+            select new com.budgee.repository.projection.CategoryTotal(
+                r.categoryId, c.name, r.type, w.currency, sum(r.totalAmount), sum(r.txCount))
+            from MonthlyTransactionRollup r
+            join Wallet w on w.id = r.walletId
+            left join Category c on c.id = r.categoryId
+            where r.userId = :userId
+              and r.walletId in :walletIds
+              and r.monthStart between :fromMonth and :toMonth
+              and (:type is null or r.type = :type)
+            group by r.categoryId, c.name, r.type, w.currency
+            having sum(r.txCount) > 0
+            """)
+    List<CategoryTotal> sumByCategory(
+            @Param("userId") UUID userId,
+            @Param("walletIds") Collection<UUID> walletIds,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth,
+            @Param("type") TransactionType type);
+
+    @Query(
+            """
+            select new com.budgee.repository.projection.PeriodTotal(
+                r.monthStart, r.type, w.currency, sum(r.totalAmount), sum(r.txCount))
+            from MonthlyTransactionRollup r
+            join Wallet w on w.id = r.walletId
+            where r.userId = :userId
+              and r.walletId in :walletIds
+              and r.monthStart between :fromMonth and :toMonth
+            group by r.monthStart, r.type, w.currency
+            order by r.monthStart
+            """)
+    List<PeriodTotal> sumByMonth(
+            @Param("userId") UUID userId,
+            @Param("walletIds") Collection<UUID> walletIds,
+            @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+}
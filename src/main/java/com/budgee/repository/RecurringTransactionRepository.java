@@ -0,0 +1,51 @@
+package com.budgee.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.model.RecurringTransaction;
+
+@Repository
+public interface RecurringTransactionRepository extends JpaRepository<RecurringTransaction, UUID> {
+
+    @Query("select distinct r.user.id from RecurringTransaction r where r.nextDate <= :today")
+    List<UUID> findUserIdsWithDue(@Param("today") LocalDate today);
+
+    /** Due recurrences of one user, row-locked so concurrent runs cannot materialize them twice. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            """
+            select r from RecurringTransaction r
+            where r.user.id = :userId and r.nextDate <= :today
+              and exists (select 1 from Wallet w where w.id = r.wallet.id)
+              and (r.category is null
+                   or exists (select 1 from Category c where c.id = r.category.id))
+            order by r.id
+            """)
+    List<RecurringTransaction> lockDueForUser(
+            @Param("userId") UUID userId, @Param("today") LocalDate today);
+
+    /** Moves the schedule forward without entity validation, which rejects past catch-up dates. */
+    @Modifying
+    @Query(
+            """
+            update RecurringTransaction r
+            set r.nextDate = :nextDate, r.updatedAt = :updatedAt
+            where r.id = :id
+            """)
+    int updateNextDate(
+            @Param("id") UUID id,
+            @Param("nextDate") LocalDate nextDate,
+            @Param("updatedAt") Instant updatedAt);
+}
@@ -0,0 +1,39 @@
+package com.budgee.repository;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.model.RevokedToken;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    boolean existsByTokenId(String tokenId);
+
+    @Query("select count(r) from RevokedToken r where r.expiresAt > :now")
+    long countActive(@Param("now") Instant now);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+    Stream<String> streamActiveTokenIds(@Param("now") Instant now);
+
+    @Query("select r.tokenId from RevokedToken r where r.createdAt >= :since")
+    List<String> findTokenIdsRevokedSince(@Param("since") Instant since);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,14 +1,19 @@
 package com.budgee.repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.budgee.enums.TransactionType;
 import com.budgee.model.Category;
 import com.budgee.model.Transaction;
 import com.budgee.model.User;
@@ -24,6 +29,10 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
 
     List<Transaction> getAllByCategory(Category category);
 
+    @Query("select tr from Transaction tr where tr.user.id = :userId and tr.id in :ids")
+    List<Transaction> findAllByUserIdAndIdIn(
+            @Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
     @Modifying
     @Query(
             """
@@ -47,4 +56,39 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
             """)
     void deleteAllByWalletIdAndUserId(
             @Param("walletId") UUID walletId, @Param("userId") UUID userId);
+
+    // keyset page over (date, time, id) descending; the redundant "date <= :cursorDate" gives the
+    // optimizer a range on the (user_id, date, time, id) index so deep pages seek instead of scan
+    @Query(
+            """
+            select tr from Transaction tr
+            where tr.user.id = :userId
+            and (:walletId is null or tr.wallet.id = :walletId)
+            and (:categoryId is null or tr.category.id = :categoryId)
+            and (:type is null or tr.type = :type)
+            and (:fromDate is null or tr.date >= :fromDate)
+            and (:toDate is null or tr.date <= :toDate)
+            and (tr.wallet is null or exists (select 1 from Wallet w where w.id = tr.wallet.id))
+            and (tr.category is null
+                 or exists (select 1 from Category c where c.id = tr.category.id))
+            and (:cursorDate is null or tr.date <= :cursorDate)
+            and (
+                :cursorDate is null
+                or tr.date < :cursorDate
+                or (tr.date = :cursorDate and tr.time < :cursorTime)
+                or (tr.date = :cursorDate and tr.time = :cursorTime and tr.id < :cursorId)
+            )
+            order by tr.date desc, tr.time desc, tr.id desc
+            """)
+    List<Transaction> findPageForUser(
+            @Param("userId") UUID userId,
+            @Param("walletId") UUID walletId,
+            @Param("categoryId") UUID categoryId,
+            @Param("type") TransactionType type,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorTime") LocalTime cursorTime,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
 }
@@ -1,11 +1,15 @@
 package com.budgee.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.budgee.enums.UserStatus;
 import com.budgee.model.User;
 
 @Repository
@@ -14,4 +18,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    @Query("select u.status from User u where u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") UUID id);
+
+    @Query("select u.id from User u")
+    List<UUID> findAllIds();
 }
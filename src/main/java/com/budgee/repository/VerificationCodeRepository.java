@@ -1,11 +1,16 @@
 package com.budgee.repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.enums.VerificationType;
@@ -25,4 +30,31 @@ public interface VerificationCodeRepository extends JpaRepository<VerificationCo
     List<VerificationCode> findLatestByUserAndType(User user, VerificationType type);
 
     VerificationCode findLastestVerificationCodeByUserAndType(User user, VerificationType type);
+
+    Optional<VerificationCode> findTopByUserAndTypeOrderByCreatedAtDesc(
+            User user, VerificationType type);
+
+    @Modifying
+    @Query(
+            """
+            update VerificationCode v
+            set v.verified = true, v.verifiedAt = :now, v.updatedAt = :updatedAt
+            where v.id = :id and v.verified = false
+            """)
+    int markVerified(
+            @Param("id") UUID id,
+            @Param("now") LocalDateTime now,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Query(
+            """
+            select v.id from VerificationCode v
+            where (v.verified = false and v.expiresAt < :now)
+            or (v.verified = true and v.verifiedAt < :verifiedBefore)
+            or (v.verified = true and v.verifiedAt is null and v.expiresAt < :verifiedBefore)
+            """)
+    List<UUID> findPurgeableIds(
+            @Param("now") LocalDateTime now,
+            @Param("verifiedBefore") LocalDateTime verifiedBefore,
+            Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.budgee.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.model.WalletBalanceMismatch;
+
+@Repository
+public interface WalletBalanceMismatchRepository
+        extends JpaRepository<WalletBalanceMismatch, UUID> {}
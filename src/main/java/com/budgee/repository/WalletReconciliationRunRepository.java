@@ -0,0 +1,18 @@
+package com.budgee.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.budgee.enums.ReconciliationStatus;
+import com.budgee.model.WalletReconciliationRun;
+
+@Repository
+public interface WalletReconciliationRunRepository
+        extends JpaRepository<WalletReconciliationRun, UUID> {
+
+    Optional<WalletReconciliationRun> findFirstByStatusOrderByCreatedAtDesc(
+            ReconciliationStatus status);
+}
@@ -1,15 +1,71 @@
 package com.budgee.repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.budgee.model.User;
 import com.budgee.model.Wallet;
+import com.budgee.repository.projection.CurrencyTotal;
 
 @Repository
 public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     List<Wallet> findAllByUser(User user);
+
+    @Query("select w.id from Wallet w where w.user.id = :userId")
+    Set<UUID> findIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("select w.id from Wallet w where w.user.id = :userId and w.id in :ids")
+    Set<UUID> findOwnedIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    /** Ids of the user's wallets that count towards totals, or all of them with includeIgnored. */
+    @Query(
+            """
+            select w.id from Wallet w
+            where w.user.id = :userId
+              and (:includeIgnored = true or coalesce(w.isTotalIgnored, false) = false)
+            """)
+    Set<UUID> findReportableIds(
+            @Param("userId") UUID userId, @Param("includeIgnored") boolean includeIgnored);
+
+    /** The user's balances summed per currency, one row per currency instead of per wallet. */
+    @Query(
+            """
+            select new com.budgee.repository.projection.CurrencyTotal(w.currency, sum(w.balance))
+            from Wallet w
+            where w.user.id = :userId
+              and (:includeIgnored = true or coalesce(w.isTotalIgnored, false) = false)
+            group by w.currency
+            """)
+    List<CurrencyTotal> sumBalanceByCurrency(
+            @Param("userId") UUID userId, @Param("includeIgnored") boolean includeIgnored);
+
+    /**
+     * Applies a signed delta to the wallet balance in a single statement. The row lock taken by
+     * the update serializes concurrent writers, so no optimistic retry is needed.
+     *
+     * @return number of updated rows, {@code 0} when the wallet does not exist
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            """
+            update Wallet w
+            set w.balance = w.balance + :delta,
+                w.version = w.version + 1,
+                w.updatedAt = :updatedAt
+            where w.id = :walletId
+            """)
+    int applyBalanceDelta(
+            @Param("walletId") UUID walletId,
+            @Param("delta") BigDecimal delta,
+            @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,16 @@
+package com.budgee.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** What a budget tracks; a null {@code categoryId} or {@code walletId} matches any. */
+public record BudgetWindow(
+        UUID id, UUID categoryId, UUID walletId, LocalDate startDate, LocalDate endDate) {
+
+    public boolean matches(UUID categoryId, UUID walletId, LocalDate date) {
+        return (this.categoryId == null || this.categoryId.equals(categoryId))
+                && (this.walletId == null || this.walletId.equals(walletId))
+                && !date.isBefore(startDate)
+                && !date.isAfter(endDate);
+    }
+}
@@ -0,0 +1,7 @@
+package com.budgee.repository.projection;
+
+import java.util.UUID;
+
+import com.budgee.enums.TransactionType;
+
+public record CategoryRef(UUID id, String name, TransactionType type) {}
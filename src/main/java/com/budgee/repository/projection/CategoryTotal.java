@@ -0,0 +1,19 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+
+/**
+ * Sum of one user's transactions per category, type and wallet currency; {@code categoryName} is
+ * null if none. Reports merge the currencies into one converted total.
+ */
+public record CategoryTotal(
+        UUID categoryId,
+        String categoryName,
+        TransactionType type,
+        Currency currency,
+        BigDecimal total,
+        Long txCount) {}
@@ -0,0 +1,8 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+
+import com.budgee.enums.Currency;
+
+/** Sum of one user's wallet balances in a single currency; {@code currency} is null if unset. */
+public record CurrencyTotal(Currency currency, BigDecimal balance) {}
@@ -0,0 +1,16 @@
+package com.budgee.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** One wallet/category pair a goal counts, with the goal's window; a null end is open. */
+public record GoalLink(
+        UUID goalId, UUID walletId, UUID categoryId, LocalDate startDate, LocalDate endDate) {
+
+    public boolean matches(UUID walletId, UUID categoryId, LocalDate date) {
+        return this.walletId.equals(walletId)
+                && this.categoryId.equals(categoryId)
+                && !date.isBefore(startDate)
+                && (endDate == null || !date.isAfter(endDate));
+    }
+}
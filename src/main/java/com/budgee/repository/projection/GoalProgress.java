@@ -0,0 +1,13 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record GoalProgress(
+        UUID id,
+        String name,
+        BigDecimal currentAmount,
+        BigDecimal targetAmount,
+        LocalDate startDate,
+        LocalDate endDate) {}
@@ -0,0 +1,21 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** A goal's stored progress with one wallet/category pair linked to it; a goal has one per pair. */
+public record GoalProgressRow(
+        UUID id,
+        String name,
+        BigDecimal currentAmount,
+        BigDecimal targetAmount,
+        LocalDate startDate,
+        LocalDate endDate,
+        UUID walletId,
+        UUID categoryId) {
+
+    public GoalProgress progress() {
+        return new GoalProgress(id, name, currentAmount, targetAmount, startDate, endDate);
+    }
+}
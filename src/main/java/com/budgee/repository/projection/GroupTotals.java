@@ -0,0 +1,21 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/** Transaction totals of one group; a total with no matching transactions is zero. */
+public record GroupTotals(
+        UUID groupId,
+        BigDecimal income,
+        BigDecimal expense,
+        BigDecimal sponsorship,
+        BigDecimal advance) {
+
+    public GroupTotals {
+        income = Objects.requireNonNullElse(income, BigDecimal.ZERO);
+        expense = Objects.requireNonNullElse(expense, BigDecimal.ZERO);
+        sponsorship = Objects.requireNonNullElse(sponsorship, BigDecimal.ZERO);
+        advance = Objects.requireNonNullElse(advance, BigDecimal.ZERO);
+    }
+}
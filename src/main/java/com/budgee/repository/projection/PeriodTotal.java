@@ -0,0 +1,15 @@
+package com.budgee.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+
+/** Sum of one user's transactions per period start, type and wallet currency. */
+public record PeriodTotal(
+        LocalDate period,
+        TransactionType type,
+        Currency currency,
+        BigDecimal total,
+        Long txCount) {}
@@ -0,0 +1,19 @@
+package com.budgee.repository.projection;
+
+import java.util.UUID;
+
+import com.budgee.enums.TransactionType;
+
+/** A default category shared by every user, as held by the system category catalog. */
+public record SystemCategory(
+        UUID id,
+        String name,
+        TransactionType type,
+        String description,
+        String color,
+        String icon) {
+
+    public CategoryRef toRef() {
+        return new CategoryRef(id, name, type);
+    }
+}
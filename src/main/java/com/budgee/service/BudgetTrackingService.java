@@ -0,0 +1,13 @@
+package com.budgee.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import com.budgee.service.impl.rollup.RollupDelta;
+
+public interface BudgetTrackingService {
+
+    void apply(Collection<RollupDelta> deltas);
+
+    int rollOver(LocalDate today);
+}
@@ -0,0 +1,19 @@
+package com.budgee.service;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+
+import com.budgee.model.Goal;
+import com.budgee.service.impl.rollup.RollupDelta;
+
+public interface GoalTrackingService {
+
+    void apply(Collection<RollupDelta> deltas);
+
+    BigDecimal computeCurrentAmount(Goal goal);
+
+    void recomputeUser(UUID userId);
+
+    void recomputeAll();
+}
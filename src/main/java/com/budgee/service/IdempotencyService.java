@@ -0,0 +1,17 @@
+package com.budgee.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    String HEADER = "Idempotency-Key";
+
+    /**
+     * Runs {@code action} once per authenticated user, {@code scope} and {@code key}. A repeated
+     * key with the same request returns the stored response without running {@code action}
+     * again; a repeated key with a different request is rejected. A {@code null} key runs {@code
+     * action} unconditionally.
+     */
+    <T> T execute(
+            String scope, String key, Object request, Class<T> responseType, Supplier<T> action);
+}
@@ -1,7 +1,10 @@
 package com.budgee.service;
 
+import java.time.Instant;
+
 import com.budgee.enums.TokenType;
 import com.budgee.model.User;
+import com.budgee.service.impl.auth.AuthPrincipal;
 
 public interface JwtService {
 
@@ -10,4 +13,10 @@ public interface JwtService {
     String generateRefreshToken(User user);
 
     String extractEmail(String token, TokenType type);
+
+    AuthPrincipal extractPrincipal(String token, TokenType type);
+
+    String extractTokenId(String token, TokenType type);
+
+    Instant extractExpiration(String token, TokenType type);
 }
@@ -0,0 +1,19 @@
+package com.budgee.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.budgee.enums.Currency;
+import com.budgee.payload.request.ReportFilter;
+import com.budgee.payload.response.CashFlowResponse;
+import com.budgee.payload.response.CategoryReportResponse;
+
+public interface ReportService {
+
+    CategoryReportResponse getSpendingByCategory(ReportFilter filter);
+
+    CategoryReportResponse getTopCategories(ReportFilter filter, int limit);
+
+    CashFlowResponse getCashFlow(
+            int months, List<UUID> walletIds, boolean includeIgnored, Currency currency);
+}
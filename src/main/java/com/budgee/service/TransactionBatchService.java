@@ -0,0 +1,9 @@
+package com.budgee.service;
+
+import com.budgee.payload.request.TransactionBatchRequest;
+import com.budgee.payload.response.TransactionBatchResponse;
+
+public interface TransactionBatchService {
+
+    TransactionBatchResponse applyBatch(TransactionBatchRequest request);
+}
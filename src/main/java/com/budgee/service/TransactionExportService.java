@@ -0,0 +1,13 @@
+package com.budgee.service;
+
+import java.time.LocalDate;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.budgee.enums.ExportFormat;
+
+public interface TransactionExportService {
+
+    StreamingResponseBody exportTransactions(
+            ExportFormat format, boolean gzip, LocalDate fromDate, LocalDate toDate);
+}
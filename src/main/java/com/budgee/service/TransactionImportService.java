@@ -0,0 +1,20 @@
+package com.budgee.service;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import com.budgee.enums.StatementFormat;
+import com.budgee.payload.response.ImportProgressResponse;
+
+public interface TransactionImportService {
+
+    ImportProgressResponse importStatement(
+            UUID walletId,
+            UUID defaultCategoryId,
+            StatementFormat format,
+            UUID importId,
+            long resumeAfterLine,
+            InputStream body);
+
+    ImportProgressResponse getImportProgress(UUID importId);
+}
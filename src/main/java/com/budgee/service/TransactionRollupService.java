@@ -0,0 +1,19 @@
+package com.budgee.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.budgee.service.impl.rollup.RollupDelta;
+
+public interface TransactionRollupService {
+
+    void apply(Collection<RollupDelta> deltas);
+
+    void removeCategory(UUID userId, UUID categoryId);
+
+    void removeWallet(UUID userId, UUID walletId);
+
+    void rebuildUser(UUID userId);
+
+    void rebuildAll();
+}
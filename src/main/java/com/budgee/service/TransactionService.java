@@ -5,7 +5,9 @@ import java.util.UUID;
 
 import com.budgee.model.Category;
 import com.budgee.model.Transaction;
+import com.budgee.payload.request.TransactionFilter;
 import com.budgee.payload.request.TransactionRequest;
+import com.budgee.payload.response.CursorPagedResponse;
 import com.budgee.payload.response.TransactionResponse;
 
 public interface TransactionService {
@@ -16,6 +18,9 @@ public interface TransactionService {
 
     TransactionResponse getTransaction(UUID id);
 
+    CursorPagedResponse<TransactionResponse> getTransactions(
+            TransactionFilter filter, String cursor, int size);
+
     List<Transaction> getTransactionByCategory(Category category);
 
     void deleteTransaction(UUID id);
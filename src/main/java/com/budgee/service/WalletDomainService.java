@@ -1,22 +1,25 @@
 package com.budgee.service;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 import com.budgee.enums.TransactionType;
-import com.budgee.model.Transaction;
-import com.budgee.model.Wallet;
 
 public interface WalletDomainService {
 
-    void applyTransaction(Wallet wallet, Transaction transaction);
+    BigDecimal signedAmount(TransactionType type, BigDecimal amount);
 
-    void reverseTransaction(Wallet wallet, Transaction transaction);
+    void applyTransaction(UUID walletId, TransactionType type, BigDecimal amount);
+
+    void reverseTransaction(UUID walletId, TransactionType type, BigDecimal amount);
 
     void updateBalanceForTransactionUpdate(
-            Wallet oldWallet,
-            Wallet newWallet,
+            UUID oldWalletId,
+            UUID newWalletId,
             BigDecimal oldAmount,
             BigDecimal newAmount,
             TransactionType oldType,
             TransactionType newType);
+
+    void applyBalanceDelta(UUID walletId, BigDecimal delta);
 }
@@ -3,8 +3,10 @@ package com.budgee.service;
 import java.util.List;
 import java.util.UUID;
 
+import com.budgee.enums.Currency;
 import com.budgee.model.Wallet;
 import com.budgee.payload.request.WalletRequest;
+import com.budgee.payload.response.NetWorthResponse;
 import com.budgee.payload.response.WalletResponse;
 
 public interface WalletService {
@@ -19,5 +21,12 @@ public interface WalletService {
 
     void deleteWallet(UUID id);
 
+    /**
+     * Total of the user's wallet balances converted to {@code currency}, or to the FX base
+     * currency when {@code null}. Wallets ignored in totals count only with {@code
+     * includeIgnored}.
+     */
+    NetWorthResponse getNetWorth(Currency currency, boolean includeIgnored);
+
     Wallet getWalletById(UUID id);
 }
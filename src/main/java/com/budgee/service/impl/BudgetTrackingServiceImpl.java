@@ -0,0 +1,201 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.budgee.enums.Period;
+import com.budgee.enums.TransactionType;
+import com.budgee.repository.BudgetRepository;
+import com.budgee.repository.projection.BudgetWindow;
+import com.budgee.service.BudgetTrackingService;
+import com.budgee.service.impl.budget.ActiveBudgetIndex;
+import com.budgee.service.impl.rollup.RollupDelta;
+
+/**
+ * Keeps {@code Budget.currentSpent} in step with expense transactions. Write paths hand over the
+ * same deltas they feed to the rollups; each delta is matched against the user's budget windows
+ * and {@code currentSpent} is adjusted with one {@code UPDATE} per affected budget, in the
+ * caller's transaction. A daily job creates the next period of every ended periodic budget.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "BUDGET-TRACKING-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BudgetTrackingServiceImpl implements BudgetTrackingService {
+
+    // next_start/next_end are derived once so the NOT EXISTS check and the insert agree
+    static String ROLL_OVER =
+            """
+            INSERT INTO budgets
+            (id, created_at, updated_at, deleted, user_id, name, category_id, wallet_id,
+             amount, current_spent, period, start_date, end_date)
+            SELECT UUID_TO_BIN(UUID()), NOW(6), NOW(6), false, b.user_id, b.name,
+                   b.category_id, b.wallet_id, b.amount,
+                   COALESCE((SELECT SUM(r.total_amount)
+                             FROM transaction_daily_rollups r
+                             WHERE r.user_id = b.user_id
+                               AND r.type = 'EXPENSE'
+                               AND r.day BETWEEN b.next_start AND b.next_end
+                               AND (b.category_id IS NULL OR r.category_id = b.category_id)
+                               AND (b.wallet_id IS NULL OR r.wallet_id = b.wallet_id)), 0),
+                   b.period, b.next_start, b.next_end
+            FROM (SELECT p.*,
+                         DATE_ADD(p.end_date, INTERVAL 1 DAY) AS next_start,
+                         DATE_SUB(DATE_ADD(DATE_ADD(p.end_date, INTERVAL 1 DAY), INTERVAL %s),
+                                  INTERVAL 1 DAY) AS next_end
+                  FROM budgets p
+                  WHERE p.period = ? AND p.end_date < ? AND p.deleted = false) b
+            WHERE NOT EXISTS (SELECT 1 FROM budgets s
+                              WHERE s.user_id = b.user_id
+                                AND s.name = b.name
+                                AND s.period = b.period
+                                AND s.category_id <=> b.category_id
+                                AND s.wallet_id <=> b.wallet_id
+                                AND s.start_date = b.next_start)
+            """;
+
+    static Map<Period, String> PERIOD_INTERVALS =
+            Map.of(
+                    Period.DAILY, "1 DAY",
+                    Period.WEEKLY, "1 WEEK",
+                    Period.MONTHLY, "1 MONTH",
+                    Period.YEARLY, "1 YEAR");
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    BudgetRepository budgetRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    ActiveBudgetIndex activeBudgetIndex;
+    JdbcTemplate jdbcTemplate;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.budget.rollover.max-periods:400}")
+    int MAX_ROLLOVER_PERIODS;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    public void apply(Collection<RollupDelta> deltas) {
+        Map<UUID, List<RollupDelta>> byUser = new HashMap<>();
+        for (RollupDelta delta : deltas) {
+            if (delta.type() != TransactionType.EXPENSE || delta.walletId() == null) continue;
+
+            byUser.computeIfAbsent(delta.userId(), id -> new ArrayList<>()).add(delta);
+        }
+        if (byUser.isEmpty()) return;
+
+        LocalDate today = LocalDate.now(clock);
+
+        // sorted by budget id so concurrent writers lock budget rows in the same order
+        Map<UUID, BigDecimal> budgetDeltas = new TreeMap<>();
+        byUser.forEach((userId, userDeltas) -> match(userId, userDeltas, today, budgetDeltas));
+
+        Instant now = Instant.now(clock);
+        budgetDeltas.forEach(
+                (budgetId, delta) -> {
+                    if (delta.signum() != 0) budgetRepository.applySpentDelta(budgetId, delta, now);
+                });
+    }
+
+    @Override
+    public int rollOver(LocalDate today) {
+        int created = 0;
+
+        for (Map.Entry<Period, String> period : PERIOD_INTERVALS.entrySet()) {
+            String sql = ROLL_OVER.formatted(period.getValue());
+
+            // each pass creates one further period, so missed periods are caught up in turn;
+            // passes commit on their own and a repeated pass inserts nothing
+            int inserted;
+            int passes = 0;
+            do {
+                inserted = jdbcTemplate.update(sql, period.getKey().name(), Date.valueOf(today));
+                created += inserted;
+            } while (inserted > 0 && ++passes < MAX_ROLLOVER_PERIODS);
+        }
+
+        if (created > 0) activeBudgetIndex.clear();
+
+        return created;
+    }
+
+    @Scheduled(cron = "${budgee.budget.rollover.cron:0 10 0 * * *}")
+    public void rollOverDue() {
+        long startedAt = System.currentTimeMillis();
+
+        int created = rollOver(LocalDate.now(clock));
+
+        log.info(
+                "[rollOverDue] created={} elapsedMs={}",
+                created,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void match(
+            UUID userId,
+            List<RollupDelta> deltas,
+            LocalDate today,
+            Map<UUID, BigDecimal> budgetDeltas) {
+        LocalDate earliest = today;
+        for (RollupDelta delta : deltas) {
+            if (delta.date().isBefore(earliest)) earliest = delta.date();
+        }
+
+        // budgets that already ended are not indexed, so backdated deltas need the database
+        List<BudgetWindow> current = activeBudgetIndex.get(userId, today);
+        List<BudgetWindow> past =
+                earliest.isBefore(today)
+                        ? budgetRepository.findWindowsOverlapping(
+                                userId, earliest, today.minusDays(1))
+                        : List.of();
+
+        for (RollupDelta delta : deltas) {
+            List<BudgetWindow> windows = delta.date().isBefore(today) ? past : current;
+
+            for (BudgetWindow window : windows) {
+                if (window.matches(delta.categoryId(), delta.walletId(), delta.date())) {
+                    budgetDeltas.merge(window.id(), delta.amount(), BigDecimal::add);
+                }
+            }
+        }
+    }
+}
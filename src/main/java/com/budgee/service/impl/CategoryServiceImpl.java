@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,6 +24,7 @@ import org.springframework.util.StringUtils;
 
 import com.budgee.enums.Role;
 import com.budgee.event.application.CategoryDeletedEvent;
+import com.budgee.exception.BusinessException;
 import com.budgee.exception.ErrorCode;
 import com.budgee.exception.NotFoundException;
 import com.budgee.mapper.CategoryMapper;
@@ -32,7 +34,10 @@ import com.budgee.payload.request.CategoryUpdateRequest;
 import com.budgee.payload.response.CategoryResponse;
 import com.budgee.payload.response.PagedResponse;
 import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.projection.SystemCategory;
 import com.budgee.service.CategoryService;
+import com.budgee.service.lookup.SystemCategoryCatalog;
+import com.budgee.service.lookup.UserReferenceCache;
 import com.budgee.service.validator.CategoryValidator;
 import com.budgee.util.AuthContext;
 
@@ -61,6 +66,12 @@ public class CategoryServiceImpl implements CategoryService {
     // HELPER
     // -------------------------------------------------------------------
     AuthContext authContext;
+    UserReferenceCache userReferenceCache;
+
+    // -------------------------------------------------------------------
+    // LOOKUP
+    // -------------------------------------------------------------------
+    SystemCategoryCatalog systemCategoryCatalog;
 
     // -------------------------------------------------------------------
     // VALIDATOR
@@ -75,6 +86,11 @@ public class CategoryServiceImpl implements CategoryService {
     public CategoryResponse getCategory(UUID id) {
         log.info("[getCategory]={}", id);
 
+        Optional<SystemCategory> systemCategory = systemCategoryCatalog.find(id);
+        if (systemCategory.isPresent()) {
+            return categoryMapper.toCategoryResponse(systemCategory.get());
+        }
+
         Category category = getCategoryByIdForOwner(id);
 
         return categoryMapper.toCategoryResponse(category);
@@ -95,6 +111,10 @@ public class CategoryServiceImpl implements CategoryService {
 
         log.warn("[categoryCategory] save to db");
         categoryRepository.save(newCategory);
+        userReferenceCache.invalidateAfterCommit(authenticatedUser.getId());
+        if (Boolean.TRUE.equals(newCategory.getIsDefault())) {
+            systemCategoryCatalog.reloadAfterCommit();
+        }
 
         return categoryMapper.toCategoryResponse(newCategory);
     }
@@ -109,6 +129,10 @@ public class CategoryServiceImpl implements CategoryService {
 
         log.warn("[updateCategory] update to db");
         categoryRepository.save(category);
+        userReferenceCache.invalidateAfterCommit(authContext.getAuthenticatedUserId());
+        if (Boolean.TRUE.equals(category.getIsDefault())) {
+            systemCategoryCatalog.reloadAfterCommit();
+        }
 
         return categoryMapper.toCategoryResponse(category);
     }
@@ -122,13 +146,21 @@ public class CategoryServiceImpl implements CategoryService {
 
         Category category = getCategoryByIdForOwner(id);
 
+        if (Boolean.TRUE.equals(category.getIsDefault())) {
+            log.error("[deleteCategory] system category {} cannot be deleted", id);
+
+            throw new BusinessException(ErrorCode.CATEGORY_NOT_DELETABLE);
+        }
+
         UUID categoryId = category.getId();
         UUID ownerId = authenticatedUser.getId();
 
         eventPublisher.publishEvent(new CategoryDeletedEvent(categoryId, ownerId));
 
-        log.warn("[deleteCategory] delete category {} from db", category.getId());
-        categoryRepository.delete(category);
+        // dependent rows are removed in the background by SoftDeletePurgeJob
+        log.warn("[deleteCategory] flag category {} as deleted", category.getId());
+        category.setDeleted(true);
+        categoryRepository.save(category);
     }
 
     @Override
@@ -166,12 +198,32 @@ public class CategoryServiceImpl implements CategoryService {
 
         Pageable pageable = PageRequest.of(page, pageSize, Sort.by(sorts));
 
-        Page<CategoryResponse> categories =
-                categoryRepository
-                        .findAllByUser(authenticatedUser, pageable)
-                        .map(categoryMapper::toCategoryResponse);
+        // one listing: the shared system categories first, then the user's own
+        List<SystemCategory> systemCategories = systemCategoryCatalog.categories();
+        long offset = (long) page * pageSize;
 
-        return PagedResponse.fromPage(categories);
+        List<CategoryResponse> content = new ArrayList<>();
+        for (long i = offset; i < Math.min(offset + pageSize, systemCategories.size()); i++) {
+            content.add(categoryMapper.toCategoryResponse(systemCategories.get((int) i)));
+        }
+
+        long userOffset = Math.max(0, offset - systemCategories.size());
+        int userLimit = pageSize - content.size();
+
+        long userTotal;
+        if (userLimit == 0) {
+            userTotal = categoryRepository.countByUserAndIsDefaultFalse(authenticatedUser);
+        } else {
+            Page<Category> userPage =
+                    findUserCategories(authenticatedUser, userOffset, userLimit, pageable, content);
+            userTotal = userPage.getTotalElements();
+        }
+
+        long totalElements = systemCategories.size() + userTotal;
+        int totalPages = (int) ((totalElements + pageSize - 1) / pageSize);
+
+        return new PagedResponse<>(
+                content, page, pageSize, totalElements, totalPages, page + 1 >= totalPages);
     }
 
     @Override
@@ -189,6 +241,43 @@ public class CategoryServiceImpl implements CategoryService {
     // PRIVATE FUNCTION
     // -------------------------------------------------------------------
 
+    /**
+     * Appends up to {@code limit} of the user's categories, starting at {@code offset}, to {@code
+     * content}. The range lies within two consecutive pages of {@code pageSize}, so at most two
+     * pages are read. Returns the first of them, which carries the total count.
+     */
+    Page<Category> findUserCategories(
+            User user,
+            long offset,
+            int limit,
+            Pageable pageable,
+            List<CategoryResponse> content) {
+        int skip = (int) (offset % pageable.getPageSize());
+
+        Pageable window =
+                PageRequest.of(
+                        (int) (offset / pageable.getPageSize()),
+                        pageable.getPageSize(),
+                        pageable.getSort());
+        Page<Category> first = categoryRepository.findAllByUserAndIsDefaultFalse(user, window);
+
+        List<Category> rows = new ArrayList<>(first.getContent());
+        if (skip > 0 && first.hasNext()) {
+            rows.addAll(
+                    categoryRepository
+                            .findAllByUserAndIsDefaultFalse(user, first.nextPageable())
+                            .getContent());
+        }
+
+        rows.stream()
+                .skip(skip)
+                .limit(limit)
+                .map(categoryMapper::toCategoryResponse)
+                .forEach(content::add);
+
+        return first;
+    }
+
     void applyCategoryUpdate(Category category, CategoryUpdateRequest request) {
         log.info("[applyCategoryUpdate]");
 
@@ -203,6 +292,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         return categoryRepository
                 .findById(id)
+                .filter(category -> !category.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CATEGORY_NOT_FOUND));
     }
 }
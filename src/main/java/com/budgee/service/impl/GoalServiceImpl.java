@@ -5,13 +5,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.budgee.event.application.GoalLinksChangedEvent;
 import com.budgee.exception.ErrorCode;
 import com.budgee.exception.NotFoundException;
 import com.budgee.exception.ValidationException;
@@ -20,7 +26,10 @@ import com.budgee.model.*;
 import com.budgee.payload.request.GoalRequest;
 import com.budgee.payload.response.GoalResponse;
 import com.budgee.repository.GoalRepository;
+import com.budgee.repository.projection.GoalProgress;
+import com.budgee.repository.projection.GoalProgressRow;
 import com.budgee.service.GoalService;
+import com.budgee.service.GoalTrackingService;
 import com.budgee.service.lookup.CategoryLookup;
 import com.budgee.service.lookup.WalletLookup;
 import com.budgee.service.validator.DateValidator;
@@ -43,6 +52,7 @@ public class GoalServiceImpl implements GoalService {
     // -------------------------------------------------------------------
     CategoryLookup categoryLookup;
     WalletLookup walletLookup;
+    GoalTrackingService goalTrackingService;
 
     // -------------------------------------------------------------------
     // MAPPER
@@ -53,6 +63,7 @@ public class GoalServiceImpl implements GoalService {
     // HELPER
     // -------------------------------------------------------------------
     AuthContext authContext;
+    ApplicationEventPublisher eventPublisher;
 
     // -------------------------------------------------------------------
     // VALIDATOR
@@ -77,8 +88,10 @@ public class GoalServiceImpl implements GoalService {
         // Map related entities
         goal.setGoalWallets(buildGoalWallets(request.wallets(), goal, user));
         goal.setGoalCategories(buildGoalCategories(request.categories(), goal, user));
+        goal.setCurrentAmount(goalTrackingService.computeCurrentAmount(goal));
 
         goalRepository.save(goal);
+        eventPublisher.publishEvent(new GoalLinksChangedEvent(goal.getId(), user.getId()));
 
         return goalMapper.toGoalResponse(goal);
     }
@@ -104,6 +117,8 @@ public class GoalServiceImpl implements GoalService {
         dateValidator.checkEndDateBeforeStartDate(request.startDate(), request.endDate());
 
         applyGoalUpdate(goal, request, user);
+        goal.setCurrentAmount(goalTrackingService.computeCurrentAmount(goal));
+        eventPublisher.publishEvent(new GoalLinksChangedEvent(id, user.getId()));
 
         return goalMapper.toGoalResponse(goal);
     }
@@ -119,6 +134,7 @@ public class GoalServiceImpl implements GoalService {
         goal.getGoalCategories().clear();
 
         goalRepository.delete(goal);
+        eventPublisher.publishEvent(new GoalLinksChangedEvent(id, goal.getUser().getId()));
         log.warn("[deleteGoal] deleted id={}", id);
     }
 
@@ -126,10 +142,24 @@ public class GoalServiceImpl implements GoalService {
     public List<GoalResponse> getListGoals() {
         log.info("[getListGoals]");
 
-        User user = authContext.getAuthenticatedUser();
-        List<Goal> goals = goalRepository.findAllByUser(user);
+        UUID userId = authContext.getAuthenticatedUserId();
+
+        // progress is read as stored; links come back on the same rows, never one query per goal
+        Map<UUID, GoalLinks> goals = new LinkedHashMap<>();
+        for (GoalProgressRow row : goalRepository.findProgressByUserId(userId)) {
+            GoalLinks links = goals.computeIfAbsent(row.id(), id -> new GoalLinks(row.progress()));
+            if (row.walletId() != null) links.wallets().add(row.walletId());
+            if (row.categoryId() != null) links.categories().add(row.categoryId());
+        }
 
-        return goals.stream().map(goalMapper::toGoalResponse).toList();
+        return goals.values().stream()
+                .map(
+                        goal ->
+                                goalMapper.toGoalResponse(
+                                        goal.progress(),
+                                        List.copyOf(goal.categories()),
+                                        List.copyOf(goal.wallets())))
+                .toList();
     }
 
     // -------------------------------------------------------------------
@@ -216,4 +246,11 @@ public class GoalServiceImpl implements GoalService {
 
         return goal;
     }
+
+    record GoalLinks(GoalProgress progress, Set<UUID> wallets, Set<UUID> categories) {
+
+        GoalLinks(GoalProgress progress) {
+            this(progress, new LinkedHashSet<>(), new LinkedHashSet<>());
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.budgee.model.Goal;
+import com.budgee.repository.DailyTransactionRollupRepository;
+import com.budgee.repository.GoalRepository;
+import com.budgee.repository.projection.GoalLink;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.impl.goal.ActiveGoalIndex;
+import com.budgee.service.impl.rollup.RollupDelta;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Keeps {@code Goal.currentAmount} materialized. A goal counts the amount of every transaction
+ * dated inside its window whose wallet and category are both linked to it. Transaction writes
+ * adjust matching goals by delta in the caller's transaction; goal edits and link removals
+ * recompute from the daily rollups.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "GOAL-TRACKING-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class GoalTrackingServiceImpl implements GoalTrackingService {
+
+    static String RECOMPUTE_USER =
+            """
+            UPDATE goals g
+            SET g.current_amount =
+                    COALESCE((SELECT SUM(r.total_amount)
+                              FROM transaction_daily_rollups r
+                              WHERE r.user_id = g.user_id
+                                AND r.day >= g.start_date
+                                AND (g.end_date IS NULL OR r.day <= g.end_date)
+                                AND r.wallet_id IN (SELECT gw.wallet_id FROM goal_wallets gw
+                                                    WHERE gw.goal_id = g.id)
+                                AND r.category_id IN (SELECT gc.category_id FROM goal_categories gc
+                                                      WHERE gc.goal_id = g.id)), 0),
+                g.updated_at = NOW(6)
+            WHERE g.user_id = ?
+            """;
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    GoalRepository goalRepository;
+    DailyTransactionRollupRepository dailyRollupRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    ActiveGoalIndex activeGoalIndex;
+    JdbcTemplate jdbcTemplate;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    Clock clock = Clock.systemDefaultZone();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    public void apply(Collection<RollupDelta> deltas) {
+        Map<UUID, List<RollupDelta>> byUser = new HashMap<>();
+        for (RollupDelta delta : deltas) {
+            if (delta.walletId() == null) continue;
+
+            byUser.computeIfAbsent(delta.userId(), id -> new ArrayList<>()).add(delta);
+        }
+
+        LocalDate today = LocalDate.now(clock);
+
+        // sorted by goal id so concurrent writers lock goal rows in the same order
+        Map<UUID, BigDecimal> goalDeltas = new TreeMap<>();
+        byUser.forEach(
+                (userId, userDeltas) -> {
+                    LocalDate earliest =
+                            userDeltas.stream()
+                                    .map(RollupDelta::date)
+                                    .min(LocalDate::compareTo)
+                                    .orElseThrow();
+
+                    // goals that already ended are not indexed, so backdated deltas need the
+                    // database; the usual write dated today is matched without a query
+                    List<GoalLink> links =
+                            earliest.isBefore(today)
+                                    ? goalRepository.findLinksByUserId(userId, earliest)
+                                    : activeGoalIndex.get(userId, today);
+
+                    for (GoalLink link : links) {
+                        for (RollupDelta delta : userDeltas) {
+                            if (link.matches(delta.walletId(), delta.categoryId(), delta.date())) {
+                                goalDeltas.merge(link.goalId(), delta.amount(), BigDecimal::add);
+                            }
+                        }
+                    }
+                });
+
+        Instant now = Instant.now();
+        goalDeltas.forEach(
+                (goalId, delta) -> {
+                    if (delta.signum() != 0) goalRepository.applyAmountDelta(goalId, delta, now);
+                });
+    }
+
+    @Override
+    public BigDecimal computeCurrentAmount(Goal goal) {
+        Set<UUID> walletIds =
+                goal.getGoalWallets().stream()
+                        .map(link -> link.getWallet().getId())
+                        .collect(Collectors.toSet());
+        Set<UUID> categoryIds =
+                goal.getGoalCategories().stream()
+                        .map(link -> link.getCategory().getId())
+                        .collect(Collectors.toSet());
+
+        if (walletIds.isEmpty() || categoryIds.isEmpty()) return BigDecimal.ZERO;
+
+        return dailyRollupRepository.sumForLinks(
+                goal.getUser().getId(),
+                walletIds,
+                categoryIds,
+                goal.getStartDate(),
+                goal.getEndDate());
+    }
+
+    @Override
+    @Transactional
+    public void recomputeUser(UUID userId) {
+        log.info("[recomputeUser] userId={}", userId);
+
+        jdbcTemplate.update(RECOMPUTE_USER, (Object) UuidBytes.toBytes(userId));
+    }
+
+    @Override
+    @Scheduled(cron = "${budgee.goal.recompute-cron:-}")
+    public void recomputeAll() {
+        long startedAt = System.currentTimeMillis();
+        List<UUID> userIds = goalRepository.findUserIdsWithGoals();
+
+        // one short statement per user rather than one long lock over every goal
+        userIds.forEach(this::recomputeUser);
+
+        log.info(
+                "[recomputeAll] users={} elapsedMs={}",
+                userIds.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,296 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.exception.BusinessException;
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.ValidationException;
+import com.budgee.service.IdempotencyService;
+import com.budgee.util.AuthContext;
+import com.budgee.util.UuidBytes;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Stores the response of each keyed create request in {@code idempotency_keys}, inside the same
+ * database transaction as the create itself. The unique key on (user, scope, key) makes a
+ * concurrent duplicate block until the first request commits, after which it replays the stored
+ * response. Replays are served from a bounded LRU first, so a retry costs no query at all.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "IDEMPOTENCY-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static String FIND =
+            """
+            SELECT request_hash, response_body, expires_at FROM idempotency_keys
+            WHERE user_id = ? AND scope = ? AND idempotency_key = ?
+              AND response_body IS NOT NULL
+            """;
+
+    static String DELETE_EXPIRED_KEY =
+            """
+            DELETE FROM idempotency_keys
+            WHERE user_id = ? AND scope = ? AND idempotency_key = ? AND expires_at <= ?
+            """;
+
+    static String CLAIM =
+            """
+            INSERT INTO idempotency_keys
+            (id, created_at, updated_at, deleted, user_id, scope, idempotency_key,
+             request_hash, expires_at)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?)
+            """;
+
+    static String STORE_RESPONSE = "UPDATE idempotency_keys SET response_body = ? WHERE id = ?";
+
+    static String PURGE_EXPIRED = "DELETE FROM idempotency_keys WHERE expires_at < ? LIMIT ?";
+
+    static int MAX_KEY_LENGTH = 100;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    AuthContext authContext;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    ObjectMapper objectMapper;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.idempotency.ttl-hours:24}")
+    long TTL_HOURS;
+
+    @NonFinal
+    @Value("${budgee.idempotency.cache-size:10000}")
+    int CACHE_SIZE;
+
+    @NonFinal
+    @Value("${budgee.idempotency.purge-chunk-size:1000}")
+    int PURGE_CHUNK_SIZE;
+
+    Map<CacheKey, Stored> replays =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, Stored> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    public <T> T execute(
+            String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null) return action.get();
+
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(
+                    ErrorCode.INVALID_REQUEST,
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        CacheKey cacheKey = new CacheKey(authContext.getAuthenticatedUserId(), scope, key);
+        String requestHash = hash(request);
+
+        T replay = findReplay(cacheKey, requestHash, responseType);
+        if (replay != null) return replay;
+
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusSeconds(TTL_HOURS * 3600);
+        UUID recordId = UUID.randomUUID();
+
+        // on its own, so its gap lock is released before the claim inserts
+        deleteExpiredKey(cacheKey, now);
+
+        // null means a concurrent request with this key committed first
+        T response =
+                transactionTemplate.execute(
+                        status -> {
+                            if (!claim(cacheKey, recordId, requestHash, now, expiresAt)) {
+                                status.setRollbackOnly();
+                                return null;
+                            }
+
+                            T created = action.get();
+                            jdbcTemplate.update(
+                                    STORE_RESPONSE, toJson(created), UuidBytes.toBytes(recordId));
+
+                            return created;
+                        });
+
+        if (response != null) {
+            cache(cacheKey, new Stored(requestHash, response, expiresAt.toEpochMilli()));
+            return response;
+        }
+
+        log.info("[execute] lost race for scope={} key={}", scope, key);
+
+        replay = findReplay(cacheKey, requestHash, responseType);
+        if (replay == null) throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_CONFLICT);
+
+        return replay;
+    }
+
+    @Scheduled(cron = "${budgee.idempotency.purge-cron:0 20 * * * *}")
+    public void purgeExpired() {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_EXPIRED, now, PURGE_CHUNK_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        if (purged > 0) log.info("[purgeExpired] purged={}", purged);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    <T> T findReplay(CacheKey cacheKey, String requestHash, Class<T> responseType) {
+        long now = System.currentTimeMillis();
+
+        Stored stored;
+        synchronized (replays) {
+            stored = replays.get(cacheKey);
+        }
+
+        if (stored == null || stored.expiresAt() <= now) {
+            stored = load(cacheKey, responseType, now);
+            if (stored == null) return null;
+
+            cache(cacheKey, stored);
+        }
+
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("[findReplay] key reused scope={} key={}", cacheKey.scope(), cacheKey.key());
+
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_CONFLICT);
+        }
+
+        log.info("[findReplay] replaying scope={} key={}", cacheKey.scope(), cacheKey.key());
+
+        return responseType.cast(stored.response());
+    }
+
+    Stored load(CacheKey cacheKey, Class<?> responseType, long now) {
+        List<Stored> rows =
+                jdbcTemplate.query(
+                        FIND,
+                        (rs, rowNum) ->
+                                new Stored(
+                                        rs.getString(1),
+                                        fromJson(rs.getString(2), responseType),
+                                        rs.getTimestamp(3).getTime()),
+                        UuidBytes.toBytes(cacheKey.userId()),
+                        cacheKey.scope(),
+                        cacheKey.key());
+
+        return rows.isEmpty() || rows.get(0).expiresAt() <= now ? null : rows.get(0);
+    }
+
+    void deleteExpiredKey(CacheKey cacheKey, Instant now) {
+        jdbcTemplate.update(
+                DELETE_EXPIRED_KEY,
+                UuidBytes.toBytes(cacheKey.userId()),
+                cacheKey.scope(),
+                cacheKey.key(),
+                Timestamp.from(now));
+    }
+
+    boolean claim(
+            CacheKey cacheKey,
+            UUID recordId,
+            String requestHash,
+            Instant now,
+            Instant expiresAt) {
+        byte[] userId = UuidBytes.toBytes(cacheKey.userId());
+        Timestamp timestamp = Timestamp.from(now);
+
+        try {
+            jdbcTemplate.update(
+                    CLAIM,
+                    UuidBytes.toBytes(recordId),
+                    timestamp,
+                    timestamp,
+                    userId,
+                    cacheKey.scope(),
+                    cacheKey.key(),
+                    requestHash,
+                    Timestamp.from(expiresAt));
+
+            return true;
+        } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+            // a lock timeout or deadlock on the unique key is a lost race as well
+            return false;
+        }
+    }
+
+    void cache(CacheKey cacheKey, Stored stored) {
+        synchronized (replays) {
+            replays.put(cacheKey, stored);
+        }
+    }
+
+    String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot store response", e);
+        }
+    }
+
+    Object fromJson(String body, Class<?> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot replay stored response", e);
+        }
+    }
+
+    record CacheKey(UUID userId, String scope, String key) {}
+
+    record Stored(String requestHash, Object response, long expiresAt) {}
+}
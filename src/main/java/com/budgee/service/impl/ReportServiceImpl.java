@@ -0,0 +1,264 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.ValidationException;
+import com.budgee.payload.request.ReportFilter;
+import com.budgee.payload.response.CashFlowEntry;
+import com.budgee.payload.response.CashFlowResponse;
+import com.budgee.payload.response.CategoryReportResponse;
+import com.budgee.repository.DailyTransactionRollupRepository;
+import com.budgee.repository.MonthlyTransactionRollupRepository;
+import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryTotal;
+import com.budgee.repository.projection.PeriodTotal;
+import com.budgee.service.ReportService;
+import com.budgee.service.impl.fx.FxRateRegistry;
+import com.budgee.service.impl.fx.FxRateSnapshot;
+import com.budgee.util.AuthContext;
+
+/**
+ * Spending and cash-flow reports. Every figure is aggregated by the database from the transaction
+ * rollups and returned as a projection, so no {@code Transaction} entity is loaded. Periods made
+ * of whole months are answered from the monthly rollup, anything else from the daily one. Sums
+ * arrive per wallet currency and are converted to the report currency before they are combined.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "REPORT-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReportServiceImpl implements ReportService {
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    int MAX_MONTHS = 60;
+    int MAX_TOP_CATEGORIES = 50;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    DailyTransactionRollupRepository dailyRollupRepository;
+    MonthlyTransactionRollupRepository monthlyRollupRepository;
+    WalletRepository walletRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    AuthContext authContext;
+    FxRateRegistry fxRateRegistry;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    public CategoryReportResponse getSpendingByCategory(ReportFilter filter) {
+        log.info("[getSpendingByCategory] filter={}", filter);
+
+        return categoryReport(filter, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public CategoryReportResponse getTopCategories(ReportFilter filter, int limit) {
+        log.info("[getTopCategories] filter={} limit={}", filter, limit);
+
+        if (limit < 1 || limit > MAX_TOP_CATEGORIES) {
+            throw new ValidationException(ErrorCode.INVALID_REQUEST);
+        }
+
+        return categoryReport(filter, limit);
+    }
+
+    @Override
+    public CashFlowResponse getCashFlow(
+            int months, List<UUID> walletIds, boolean includeIgnored, Currency currency) {
+        log.info("[getCashFlow] months={} walletIds={} currency={}", months, walletIds, currency);
+
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new ValidationException(ErrorCode.INVALID_REPORT_PERIOD);
+        }
+
+        UUID userId = authContext.getAuthenticatedUserId();
+        LocalDate toMonth = LocalDate.now(clock).withDayOfMonth(1);
+        LocalDate fromMonth = toMonth.minusMonths(months - 1L);
+        FxRateSnapshot rates = fxRateRegistry.current();
+        Currency target = currency != null ? currency : rates.base();
+
+        // every month of the period is listed, including the ones without transactions
+        Map<LocalDate, CashFlowEntry> entries = new LinkedHashMap<>();
+        for (LocalDate month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            entries.put(
+                    month,
+                    CashFlowEntry.builder()
+                            .month(month)
+                            .income(BigDecimal.ZERO)
+                            .expense(BigDecimal.ZERO)
+                            .build());
+        }
+
+        Set<UUID> wallets = resolveWallets(userId, walletIds, includeIgnored);
+        List<PeriodTotal> totals =
+                wallets.isEmpty()
+                        ? List.of()
+                        : monthlyRollupRepository.sumByMonth(userId, wallets, fromMonth, toMonth);
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        for (PeriodTotal total : totals) {
+            CashFlowEntry entry = entries.get(total.period());
+            if (entry == null) continue;
+
+            BigDecimal amount = convert(rates, total.total(), total.currency(), target);
+
+            entry.setTxCount(entry.getTxCount() + total.txCount());
+            if (total.type() == TransactionType.INCOME) {
+                entry.setIncome(entry.getIncome().add(amount));
+                totalIncome = totalIncome.add(amount);
+            } else if (total.type() == TransactionType.EXPENSE) {
+                entry.setExpense(entry.getExpense().add(amount));
+                totalExpense = totalExpense.add(amount);
+            }
+        }
+        entries.values()
+                .forEach(entry -> entry.setNet(entry.getIncome().subtract(entry.getExpense())));
+
+        return CashFlowResponse.builder()
+                .fromMonth(fromMonth)
+                .toMonth(toMonth)
+                .currency(target)
+                .ratesAsOf(rates.loadedAt())
+                .totalIncome(totalIncome)
+                .totalExpense(totalExpense)
+                .months(new ArrayList<>(entries.values()))
+                .build();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    CategoryReportResponse categoryReport(ReportFilter filter, int limit) {
+        UUID userId = authContext.getAuthenticatedUserId();
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = filter.fromDate() == null ? today.withDayOfMonth(1) : filter.fromDate();
+        LocalDate to =
+                filter.toDate() == null
+                        ? today.with(TemporalAdjusters.lastDayOfMonth())
+                        : filter.toDate();
+        TransactionType type = filter.type() == null ? TransactionType.EXPENSE : filter.type();
+
+        if (from.isAfter(to)) throw new ValidationException(ErrorCode.INVALID_REPORT_PERIOD);
+
+        FxRateSnapshot rates = fxRateRegistry.current();
+        Currency target = filter.currency() != null ? filter.currency() : rates.base();
+
+        Set<UUID> wallets = resolveWallets(userId, filter.walletIds(), filter.includeIgnored());
+        List<CategoryTotal> perCurrency =
+                wallets.isEmpty() ? List.of() : sumByCategory(userId, wallets, from, to, type);
+
+        // ranked only after conversion, so a large nominal sum in a weak currency cannot lead
+        Map<CategoryKey, CategoryTotal> merged = new LinkedHashMap<>();
+        for (CategoryTotal total : perCurrency) {
+            CategoryTotal converted =
+                    new CategoryTotal(
+                            total.categoryId(),
+                            total.categoryName(),
+                            total.type(),
+                            target,
+                            convert(rates, total.total(), total.currency(), target),
+                            total.txCount());
+
+            merged.merge(
+                    new CategoryKey(total.categoryId(), total.type()), converted, this::combine);
+        }
+
+        List<CategoryTotal> categories =
+                merged.values().stream()
+                        .sorted(Comparator.comparing(CategoryTotal::total).reversed())
+                        .limit(limit)
+                        .toList();
+
+        return CategoryReportResponse.builder()
+                .fromDate(from)
+                .toDate(to)
+                .type(type)
+                .currency(target)
+                .ratesAsOf(rates.loadedAt())
+                .total(
+                        categories.stream()
+                                .map(CategoryTotal::total)
+                                .reduce(BigDecimal.ZERO, BigDecimal::add))
+                .categories(categories)
+                .build();
+    }
+
+    List<CategoryTotal> sumByCategory(
+            UUID userId,
+            Collection<UUID> wallets,
+            LocalDate from,
+            LocalDate to,
+            TransactionType type) {
+        boolean wholeMonths =
+                from.getDayOfMonth() == 1 && to.equals(to.with(TemporalAdjusters.lastDayOfMonth()));
+
+        if (wholeMonths) {
+            return monthlyRollupRepository.sumByCategory(
+                    userId, wallets, from, to.withDayOfMonth(1), type);
+        }
+
+        return dailyRollupRepository.sumByCategory(userId, wallets, from, to, type);
+    }
+
+    CategoryTotal combine(CategoryTotal left, CategoryTotal right) {
+        return new CategoryTotal(
+                left.categoryId(),
+                left.categoryName(),
+                left.type(),
+                left.currency(),
+                left.total().add(right.total()),
+                left.txCount() + right.txCount());
+    }
+
+    /** Wallets without a currency hold VND, as in the net-worth report. */
+    BigDecimal convert(FxRateSnapshot rates, BigDecimal amount, Currency from, Currency to) {
+        return rates.convert(amount, from != null ? from : Currency.VND, to);
+    }
+
+    /**
+     * Wallets a report covers: the requested ones the user owns, or else every wallet of the user
+     * that is not excluded from totals (all of them with {@code includeIgnored}).
+     */
+    Set<UUID> resolveWallets(UUID userId, List<UUID> walletIds, boolean includeIgnored) {
+        if (walletIds != null && !walletIds.isEmpty()) {
+            return walletRepository.findOwnedIds(userId, walletIds);
+        }
+
+        return walletRepository.findReportableIds(userId, includeIgnored);
+    }
+
+    record CategoryKey(UUID categoryId, TransactionType type) {}
+}
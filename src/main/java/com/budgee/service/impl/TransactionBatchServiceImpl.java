@@ -0,0 +1,365 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.stereotype.Service;
+
+import com.budgee.enums.BatchOperation;
+import com.budgee.exception.BudgeeException;
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.NotFoundException;
+import com.budgee.exception.ValidationException;
+import com.budgee.mapper.TransactionMapper;
+import com.budgee.model.Transaction;
+import com.budgee.payload.request.TransactionBatchRequest;
+import com.budgee.payload.request.TransactionMutation;
+import com.budgee.payload.request.TransactionRequest;
+import com.budgee.payload.response.TransactionBatchItemResult;
+import com.budgee.payload.response.TransactionBatchResponse;
+import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.TransactionRepository;
+import com.budgee.repository.UserRepository;
+import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryRef;
+import com.budgee.service.BudgetTrackingService;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.TransactionBatchService;
+import com.budgee.service.TransactionRollupService;
+import com.budgee.service.WalletDomainService;
+import com.budgee.service.impl.rollup.RollupDelta;
+import com.budgee.service.lookup.SystemCategoryCatalog;
+import com.budgee.util.AuthContext;
+
+/**
+ * Applies a list of queued create/update/delete operations in one database transaction.
+ * Ownership of every referenced wallet, category and transaction is checked with one query each,
+ * each operation is bean-validated on its own, rejected operations are reported per item, and
+ * the balance effect of all accepted operations is folded into one delta per wallet.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "TRANSACTION-BATCH-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionBatchServiceImpl implements TransactionBatchService {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    TransactionRepository transactionRepository;
+    WalletRepository walletRepository;
+    CategoryRepository categoryRepository;
+    UserRepository userRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    WalletDomainService walletDomainService;
+    TransactionRollupService transactionRollupService;
+    BudgetTrackingService budgetTrackingService;
+    GoalTrackingService goalTrackingService;
+
+    // -------------------------------------------------------------------
+    // MAPPER
+    // -------------------------------------------------------------------
+    TransactionMapper transactionMapper;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    AuthContext authContext;
+    Validator validator;
+
+    // -------------------------------------------------------------------
+    // LOOKUP
+    // -------------------------------------------------------------------
+    SystemCategoryCatalog systemCategoryCatalog;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    public TransactionBatchResponse applyBatch(TransactionBatchRequest request) {
+        List<TransactionMutation> operations = request.operations();
+        log.info("[applyBatch] operations={}", operations.size());
+
+        UUID userId = authContext.getAuthenticatedUserId();
+        BatchContext context = loadContext(userId, operations);
+
+        List<TransactionBatchItemResult> results = new ArrayList<>(operations.size());
+        Map<Integer, Transaction> written = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TransactionMutation mutation = operations.get(i);
+
+            try {
+                checkConstraints(mutation);
+                Transaction transaction = apply(mutation, userId, context);
+                if (mutation.op() != BatchOperation.DELETE) written.put(i, transaction);
+
+                results.add(
+                        TransactionBatchItemResult.builder()
+                                .index(i)
+                                .op(mutation.op())
+                                .success(true)
+                                .transactionId(transaction.getId())
+                                .build());
+            } catch (BudgeeException e) {
+                log.warn("[applyBatch] operation {} rejected: {}", i, e.getErrorCode());
+
+                results.add(
+                        TransactionBatchItemResult.builder()
+                                .index(i)
+                                .op(mutation.op())
+                                .success(false)
+                                .transactionId(mutation.transactionId())
+                                .errorCode(e.getErrorCode().getCode())
+                                .message(e.getMessage())
+                                .build());
+            }
+        }
+
+        log.info(
+                "[applyBatch] write saved={} deleted={}",
+                context.saved.size(),
+                context.deleted.size());
+        transactionRepository.saveAll(context.saved);
+        transactionRepository.deleteAllInBatch(context.deleted);
+
+        // sorted by wallet id so concurrent batches lock wallet rows in the same order
+        context.walletDeltas.forEach(walletDomainService::applyBalanceDelta);
+        transactionRollupService.apply(context.rollupDeltas);
+        budgetTrackingService.apply(context.rollupDeltas);
+        goalTrackingService.apply(context.rollupDeltas);
+
+        // ids of new rows are only known once they are persisted
+        written.forEach(
+                (index, transaction) -> {
+                    TransactionBatchItemResult result = results.get(index);
+                    result.setTransactionId(transaction.getId());
+                    result.setTransaction(transactionMapper.toTransactionResponse(transaction));
+                });
+
+        int succeeded =
+                (int) results.stream().filter(TransactionBatchItemResult::isSuccess).count();
+
+        return TransactionBatchResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    BatchContext loadContext(UUID userId, List<TransactionMutation> operations) {
+        Set<UUID> walletIds = new HashSet<>();
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> transactionIds = new HashSet<>();
+
+        for (TransactionMutation mutation : operations) {
+            if (mutation.data() != null) {
+                if (mutation.data().walletId() != null) walletIds.add(mutation.data().walletId());
+                if (mutation.data().categoryId() != null) {
+                    categoryIds.add(mutation.data().categoryId());
+                }
+            }
+            if (mutation.transactionId() != null) transactionIds.add(mutation.transactionId());
+        }
+
+        List<Transaction> existing =
+                transactionIds.isEmpty()
+                        ? List.of()
+                        : transactionRepository.findAllByUserIdAndIdIn(userId, transactionIds);
+        existing.forEach(transaction -> walletIds.add(transaction.getWallet().getId()));
+
+        Set<UUID> ownedWallets =
+                walletIds.isEmpty() ? Set.of() : walletRepository.findOwnedIds(userId, walletIds);
+        Map<UUID, CategoryRef> ownedCategories =
+                categoryIds.isEmpty()
+                        ? new HashMap<>()
+                        : categoryRepository.findRefsByUserIdAndIdIn(userId, categoryIds).stream()
+                                .collect(Collectors.toMap(CategoryRef::id, Function.identity()));
+        // system categories are usable by every user
+        for (UUID categoryId : categoryIds) {
+            systemCategoryCatalog
+                    .find(categoryId)
+                    .ifPresent(
+                            category -> ownedCategories.putIfAbsent(categoryId, category.toRef()));
+        }
+
+        return new BatchContext(
+                ownedWallets,
+                ownedCategories,
+                existing.stream()
+                        .collect(Collectors.toMap(Transaction::getId, Function.identity())));
+    }
+
+    void checkConstraints(TransactionMutation mutation) {
+        Set<ConstraintViolation<TransactionMutation>> violations = validator.validate(mutation);
+        if (violations.isEmpty()) return;
+
+        String message =
+                violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+
+        throw new ValidationException(ErrorCode.VALIDATION_FAILED, message);
+    }
+
+    Transaction apply(TransactionMutation mutation, UUID userId, BatchContext context) {
+        return switch (mutation.op()) {
+            case CREATE -> create(mutation, userId, context);
+            case UPDATE -> update(mutation, context);
+            case DELETE -> delete(mutation, context);
+        };
+    }
+
+    Transaction create(TransactionMutation mutation, UUID userId, BatchContext context) {
+        TransactionRequest data = requireData(mutation);
+        validate(data, context);
+
+        Transaction transaction =
+                transactionMapper.toTransaction(
+                        data,
+                        walletRepository.getReferenceById(data.walletId()),
+                        categoryRepository.getReferenceById(data.categoryId()),
+                        userRepository.getReferenceById(userId));
+
+        context.saved.add(transaction);
+        context.addDelta(
+                data.walletId(), walletDomainService.signedAmount(data.type(), data.amount()));
+        context.rollupDeltas.add(RollupDelta.added(transaction));
+
+        return transaction;
+    }
+
+    Transaction update(TransactionMutation mutation, BatchContext context) {
+        TransactionRequest data = requireData(mutation);
+        Transaction transaction = requireExisting(mutation, context);
+        validate(data, context);
+
+        context.addDelta(
+                transaction.getWallet().getId(),
+                walletDomainService
+                        .signedAmount(transaction.getType(), transaction.getAmount())
+                        .negate());
+        context.addDelta(
+                data.walletId(), walletDomainService.signedAmount(data.type(), data.amount()));
+        context.rollupDeltas.add(RollupDelta.removed(transaction));
+
+        transaction.setWallet(walletRepository.getReferenceById(data.walletId()));
+        transaction.setCategory(categoryRepository.getReferenceById(data.categoryId()));
+        transaction.setAmount(data.amount());
+        transaction.setType(data.type());
+        transaction.setDate(data.date());
+        transaction.setTime(data.time());
+        transaction.setNote(data.note());
+
+        context.saved.add(transaction);
+        context.rollupDeltas.add(RollupDelta.added(transaction));
+
+        return transaction;
+    }
+
+    Transaction delete(TransactionMutation mutation, BatchContext context) {
+        Transaction transaction = requireExisting(mutation, context);
+
+        context.addDelta(
+                transaction.getWallet().getId(),
+                walletDomainService
+                        .signedAmount(transaction.getType(), transaction.getAmount())
+                        .negate());
+        context.rollupDeltas.add(RollupDelta.removed(transaction));
+
+        context.existing.remove(transaction.getId());
+        context.saved.remove(transaction);
+        context.deleted.add(transaction);
+
+        return transaction;
+    }
+
+    TransactionRequest requireData(TransactionMutation mutation) {
+        if (mutation.data() == null) {
+            throw new ValidationException(
+                    ErrorCode.INVALID_BATCH_OPERATION, "data is required for " + mutation.op());
+        }
+
+        return mutation.data();
+    }
+
+    Transaction requireExisting(TransactionMutation mutation, BatchContext context) {
+        if (mutation.transactionId() == null) {
+            throw new ValidationException(
+                    ErrorCode.INVALID_BATCH_OPERATION,
+                    "transactionId is required for " + mutation.op());
+        }
+
+        Transaction transaction = context.existing.get(mutation.transactionId());
+        if (transaction == null) throw new NotFoundException(ErrorCode.TRANSACTION_NOT_FOUND);
+
+        return transaction;
+    }
+
+    void validate(TransactionRequest data, BatchContext context) {
+        if (!context.ownedWallets.contains(data.walletId())) {
+            throw new NotFoundException(ErrorCode.WALLET_NOT_FOUND);
+        }
+
+        CategoryRef category = context.ownedCategories.get(data.categoryId());
+        if (category == null) throw new NotFoundException(ErrorCode.CATEGORY_NOT_FOUND);
+
+        if (!Objects.equals(category.type(), data.type())) {
+            throw new ValidationException(ErrorCode.INVALID_TRANSACTION_TYPE);
+        }
+    }
+
+    static class BatchContext {
+        final Set<UUID> ownedWallets;
+        final Map<UUID, CategoryRef> ownedCategories;
+        final Map<UUID, Transaction> existing;
+        // identity-based: new transactions have no id until they are persisted
+        final Set<Transaction> saved = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<Transaction> deleted = new ArrayList<>();
+        final Map<UUID, BigDecimal> walletDeltas = new TreeMap<>();
+        final List<RollupDelta> rollupDeltas = new ArrayList<>();
+
+        BatchContext(
+                Set<UUID> ownedWallets,
+                Map<UUID, CategoryRef> ownedCategories,
+                Map<UUID, Transaction> existing) {
+            this.ownedWallets = ownedWallets;
+            this.ownedCategories = ownedCategories;
+            this.existing = new HashMap<>(existing);
+        }
+
+        void addDelta(UUID walletId, BigDecimal delta) {
+            walletDeltas.merge(walletId, delta, BigDecimal::add);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.budgee.enums.ExportFormat;
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.ValidationException;
+import com.budgee.service.TransactionExportService;
+import com.budgee.service.impl.exporter.CsvTransactionRowWriter;
+import com.budgee.service.impl.exporter.ExportedRow;
+import com.budgee.service.impl.exporter.NdjsonTransactionRowWriter;
+import com.budgee.service.impl.exporter.TransactionRowWriter;
+import com.budgee.util.AuthContext;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Streams a user's transactions as CSV or NDJSON. Rows come from a forward-only JDBC cursor and
+ * are written to the response as they are read, so heap use stays flat regardless of history
+ * size. The user is resolved before streaming starts, because the body is written on an async
+ * thread.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "TRANSACTION-EXPORT-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    static String SELECT_TRANSACTIONS =
+            """
+            SELECT t.id, t.date, t.time, t.type, t.amount, t.note,
+                   w.currency, w.name AS wallet_name, c.name AS category_name
+            FROM transactions t
+            LEFT JOIN wallets w ON w.id = t.wallet_id
+            LEFT JOIN categories c ON c.id = t.category_id
+            WHERE t.user_id = ?
+              AND COALESCE(w.deleted, false) = false
+              AND COALESCE(c.deleted, false) = false
+            """;
+
+    static String ORDER_BY = " ORDER BY t.date, t.time, t.id";
+
+    // MySQL Connector/J streams rows one at a time only for this fetch size
+    static int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    static int BUFFER_SIZE = 64 * 1024;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    AuthContext authContext;
+    JdbcTemplate jdbcTemplate;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    public StreamingResponseBody exportTransactions(
+            ExportFormat format, boolean gzip, LocalDate fromDate, LocalDate toDate) {
+        log.info("[exportTransactions] format={} gzip={}", format, gzip);
+
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new ValidationException(ErrorCode.INVALID_REPORT_PERIOD);
+        }
+
+        UUID userId = authContext.getAuthenticatedUserId();
+
+        return out -> write(userId, format, gzip, fromDate, toDate, out);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void write(
+            UUID userId,
+            ExportFormat format,
+            boolean gzip,
+            LocalDate fromDate,
+            LocalDate toDate,
+            OutputStream out)
+            throws IOException {
+        long startedAt = System.currentTimeMillis();
+
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                compressed == null ? out : compressed, StandardCharsets.UTF_8),
+                        BUFFER_SIZE);
+        TransactionRowWriter rows =
+                switch (format) {
+                    case CSV -> new CsvTransactionRowWriter(writer);
+                    case NDJSON -> new NdjsonTransactionRowWriter(writer);
+                };
+
+        rows.writeHeader();
+
+        long[] written = {0};
+        try {
+            jdbcTemplate.query(
+                    connection -> prepare(connection, userId, fromDate, toDate),
+                    (RowCallbackHandler)
+                            rs -> {
+                                try {
+                                    rows.write(toRow(rs));
+                                    written[0]++;
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+        } catch (UncheckedIOException e) {
+            // the client went away, nothing left to send it
+            log.warn("[exportTransactions] userId={} aborted: {}", userId, e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (compressed != null) compressed.finish();
+
+        log.info(
+                "[exportTransactions] userId={} rows={} elapsedMs={}",
+                userId,
+                written[0],
+                System.currentTimeMillis() - startedAt);
+    }
+
+    PreparedStatement prepare(
+            Connection connection, UUID userId, LocalDate fromDate, LocalDate toDate)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder(SELECT_TRANSACTIONS);
+        List<Object> params = new ArrayList<>(3);
+        params.add(UuidBytes.toBytes(userId));
+
+        if (fromDate != null) {
+            sql.append(" AND t.date >= ?");
+            params.add(Date.valueOf(fromDate));
+        }
+        if (toDate != null) {
+            sql.append(" AND t.date <= ?");
+            params.add(Date.valueOf(toDate));
+        }
+        sql.append(ORDER_BY);
+
+        PreparedStatement ps =
+                connection.prepareStatement(
+                        sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(STREAMING_FETCH_SIZE);
+        for (int i = 0; i < params.size(); i++) {
+            ps.setObject(i + 1, params.get(i));
+        }
+
+        return ps;
+    }
+
+    ExportedRow toRow(ResultSet rs) throws SQLException {
+        Time time = rs.getTime("time");
+
+        return new ExportedRow(
+                UuidBytes.fromBytes(rs.getBytes("id")),
+                rs.getDate("date").toLocalDate(),
+                time == null ? null : time.toLocalTime(),
+                rs.getString("type"),
+                rs.getBigDecimal("amount"),
+                rs.getString("currency"),
+                rs.getString("wallet_name"),
+                rs.getString("category_name"),
+                rs.getString("note"));
+    }
+}
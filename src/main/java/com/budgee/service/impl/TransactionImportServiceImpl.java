@@ -0,0 +1,388 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.enums.ImportStatus;
+import com.budgee.enums.StatementFormat;
+import com.budgee.exception.AuthorizationException;
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.NotFoundException;
+import com.budgee.exception.ValidationException;
+import com.budgee.model.Wallet;
+import com.budgee.payload.response.ImportProgressResponse;
+import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.projection.CategoryRef;
+import com.budgee.repository.projection.SystemCategory;
+import com.budgee.service.BudgetTrackingService;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.TransactionImportService;
+import com.budgee.service.TransactionRollupService;
+import com.budgee.service.WalletDomainService;
+import com.budgee.service.impl.importer.CsvStatementParser;
+import com.budgee.service.impl.importer.ImportProgress;
+import com.budgee.service.impl.importer.ImportProgressRegistry;
+import com.budgee.service.impl.importer.ImportedRow;
+import com.budgee.service.impl.importer.OfxStatementParser;
+import com.budgee.service.impl.importer.StatementParser;
+import com.budgee.service.impl.importer.StatementRowException;
+import com.budgee.service.impl.rollup.RollupDelta;
+import com.budgee.service.lookup.CategoryLookup;
+import com.budgee.service.lookup.SystemCategoryCatalog;
+import com.budgee.service.lookup.WalletLookup;
+import com.budgee.util.AuthContext;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Imports a bank statement into one wallet. The body is parsed row by row and rows are written
+ * with JDBC batch inserts, so memory use does not grow with the file. Each chunk of {@code
+ * batch-size} rows is committed in its own short transaction together with its rollup, budget,
+ * goal and wallet balance deltas, so no lock is held for the whole upload. The progress reports
+ * the last committed statement line; a failed import is retried with {@code resumeAfterLine}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j(topic = "TRANSACTION-IMPORT-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+    static String INSERT_TRANSACTION =
+            """
+            INSERT INTO transactions
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, amount, date, time, note)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    static int MAX_NOTE_LENGTH = 1000;
+
+    // amount columns are DECIMAL(15, 2)
+    static int AMOUNT_SCALE = 2;
+    static int AMOUNT_PRECISION = 15;
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    CategoryRepository categoryRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    WalletDomainService walletDomainService;
+    TransactionRollupService transactionRollupService;
+    BudgetTrackingService budgetTrackingService;
+    GoalTrackingService goalTrackingService;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    AuthContext authContext;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    ImportProgressRegistry importProgressRegistry;
+
+    // -------------------------------------------------------------------
+    // LOOKUP
+    // -------------------------------------------------------------------
+    WalletLookup walletLookup;
+    CategoryLookup categoryLookup;
+    SystemCategoryCatalog systemCategoryCatalog;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.import.batch-size:500}")
+    int BATCH_SIZE;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    public ImportProgressResponse importStatement(
+            UUID walletId,
+            UUID defaultCategoryId,
+            StatementFormat format,
+            UUID importId,
+            long resumeAfterLine,
+            InputStream body) {
+        log.info(
+                "[importStatement] walletId={} format={} importId={} resumeAfterLine={}",
+                walletId,
+                format,
+                importId,
+                resumeAfterLine);
+
+        UUID userId = authContext.getAuthenticatedUserId();
+        Wallet wallet = walletLookup.getWalletForCurrentUser(walletId);
+        CategoryRef defaultCategory =
+                defaultCategoryId == null
+                        ? null
+                        : categoryLookup.getCategoryRefForCurrentUser(defaultCategoryId);
+        CategoryIndex categories =
+                new CategoryIndex(
+                        categoryRepository.findRefsByUserId(userId),
+                        systemCategoryCatalog.categories());
+
+        ImportProgress progress =
+                importProgressRegistry.start(
+                        importId == null ? UUID.randomUUID() : importId, userId);
+
+        try (StatementParser parser = openParser(format, body)) {
+            insertRows(
+                    parser,
+                    userId,
+                    wallet.getId(),
+                    defaultCategory,
+                    categories,
+                    resumeAfterLine,
+                    progress);
+
+            progress.finish(ImportStatus.COMPLETED, null);
+        } catch (IOException | UncheckedIOException | StatementRowException e) {
+            log.error(
+                    "[importStatement] importId={} failed after line {}: {}",
+                    progress.getImportId(),
+                    progress.getCommittedThroughLine(),
+                    e.getMessage());
+            progress.finish(ImportStatus.FAILED, e.getMessage());
+
+            throw new ValidationException(ErrorCode.INVALID_IMPORT_FILE);
+        } catch (RuntimeException e) {
+            progress.finish(ImportStatus.FAILED, e.getMessage());
+
+            throw e;
+        }
+
+        log.info(
+                "[importStatement] importId={} imported={} rejected={}",
+                progress.getImportId(),
+                progress.getRowsImported().get(),
+                progress.getRowsRejected().get());
+
+        return progress.toResponse();
+    }
+
+    @Override
+    public ImportProgressResponse getImportProgress(UUID importId) {
+        log.info("[getImportProgress] importId={}", importId);
+
+        ImportProgress progress =
+                importProgressRegistry
+                        .find(importId)
+                        .orElseThrow(() -> new NotFoundException(ErrorCode.IMPORT_NOT_FOUND));
+
+        if (!progress.getUserId().equals(authContext.getAuthenticatedUserId())) {
+            throw new AuthorizationException(ErrorCode.FORBIDDEN);
+        }
+
+        return progress.toResponse();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void insertRows(
+            StatementParser parser,
+            UUID userId,
+            UUID walletId,
+            CategoryRef defaultCategory,
+            CategoryIndex categories,
+            long resumeAfterLine,
+            ImportProgress progress) {
+        Chunk chunk = new Chunk(walletId, BATCH_SIZE);
+        LocalDate today = LocalDate.now(clock);
+        byte[] userIdBytes = UuidBytes.toBytes(userId);
+        byte[] walletIdBytes = UuidBytes.toBytes(walletId);
+
+        while (true) {
+            ImportedRow row;
+            try {
+                row = parser.next();
+            } catch (StatementRowException e) {
+                progress.getRowsRead().incrementAndGet();
+                progress.rejected(e.getLineNumber(), e.getMessage());
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (row == null) break;
+
+            // committed by an earlier attempt of this import
+            if (row.lineNumber() <= resumeAfterLine) continue;
+
+            progress.getRowsRead().incrementAndGet();
+
+            CategoryRef category =
+                    row.category() == null ? defaultCategory : categories.resolve(row.category());
+            String rejection = validate(row, category, today);
+            if (rejection != null) {
+                progress.rejected(row.lineNumber(), rejection);
+                continue;
+            }
+
+            Timestamp now = Timestamp.from(Instant.now(clock));
+            chunk.rows.add(
+                    new Object[] {
+                        UuidBytes.toBytes(UUID.randomUUID()),
+                        now,
+                        now,
+                        userIdBytes,
+                        walletIdBytes,
+                        UuidBytes.toBytes(category.id()),
+                        row.type().name(),
+                        row.amount(),
+                        Date.valueOf(row.date()),
+                        Time.valueOf(row.time()),
+                        truncate(row.note())
+                    });
+            chunk.rollups.add(
+                    RollupDelta.of(
+                            userId,
+                            walletId,
+                            category.id(),
+                            row.type(),
+                            row.date(),
+                            row.amount(),
+                            1));
+            chunk.netDelta =
+                    chunk.netDelta.add(
+                            walletDomainService.signedAmount(row.type(), row.amount()));
+            chunk.lastLine = row.lineNumber();
+
+            if (chunk.rows.size() == BATCH_SIZE) flush(chunk, progress);
+        }
+
+        flush(chunk, progress);
+    }
+
+    /** Commits one chunk of rows and all of its deltas in a single short transaction. */
+    void flush(Chunk chunk, ImportProgress progress) {
+        if (chunk.rows.isEmpty()) return;
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.batchUpdate(INSERT_TRANSACTION, chunk.rows);
+                    transactionRollupService.apply(chunk.rollups);
+                    budgetTrackingService.apply(chunk.rollups);
+                    goalTrackingService.apply(chunk.rollups);
+                    walletDomainService.applyBalanceDelta(chunk.walletId, chunk.netDelta);
+                });
+
+        progress.committed(chunk.rows.size(), chunk.lastLine);
+        chunk.clear();
+    }
+
+    String validate(ImportedRow row, CategoryRef category, LocalDate today) {
+        if (category == null) return "unknown or missing category";
+        if (!category.type().equals(row.type())) {
+            return "category type does not match " + row.type();
+        }
+        if (row.amount().signum() == 0) return "amount must not be zero";
+
+        BigDecimal amount = row.amount().stripTrailingZeros();
+        if (amount.scale() > AMOUNT_SCALE) {
+            return "amount must have at most " + AMOUNT_SCALE + " decimal places";
+        }
+        if (amount.precision() - amount.scale() > AMOUNT_PRECISION - AMOUNT_SCALE) {
+            return "amount is too large";
+        }
+        if (row.date().isAfter(today)) return "date is in the future";
+
+        return null;
+    }
+
+    StatementParser openParser(StatementFormat format, InputStream body) throws IOException {
+        BufferedReader reader =
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        return switch (format) {
+            case CSV -> new CsvStatementParser(reader);
+            case OFX -> new OfxStatementParser(reader);
+        };
+    }
+
+    String truncate(String note) {
+        if (note == null || note.length() <= MAX_NOTE_LENGTH) return note;
+
+        return note.substring(0, MAX_NOTE_LENGTH);
+    }
+
+    static class Chunk {
+        final UUID walletId;
+        final List<Object[]> rows;
+        final List<RollupDelta> rollups;
+        BigDecimal netDelta = BigDecimal.ZERO;
+        long lastLine;
+
+        Chunk(UUID walletId, int size) {
+            this.walletId = walletId;
+            this.rows = new ArrayList<>(size);
+            this.rollups = new ArrayList<>(size);
+        }
+
+        void clear() {
+            rows.clear();
+            rollups.clear();
+            netDelta = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * The user's and the system categories by id and by case-insensitive name; on a name clash
+     * the user's own category wins.
+     */
+    static class CategoryIndex {
+        final Map<String, CategoryRef> byKey = new HashMap<>();
+
+        CategoryIndex(List<CategoryRef> categories, List<SystemCategory> systemCategories) {
+            for (CategoryRef category : categories) {
+                add(category);
+            }
+            for (SystemCategory category : systemCategories) {
+                add(category.toRef());
+            }
+        }
+
+        void add(CategoryRef category) {
+            byKey.put(category.id().toString(), category);
+            byKey.putIfAbsent(category.name().trim().toLowerCase(Locale.ROOT), category);
+        }
+
+        CategoryRef resolve(String key) {
+            return byKey.get(key.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.budgee.service.impl;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.repository.UserRepository;
+import com.budgee.service.TransactionRollupService;
+import com.budgee.service.impl.rollup.RollupDelta;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Maintains {@code transaction_daily_rollups} and {@code transaction_monthly_rollups}. Deltas are
+ * netted per key and written with {@code INSERT ... ON DUPLICATE KEY UPDATE}, in key order so two
+ * writers touching the same rows lock them in the same order. Runs inside the caller's
+ * transaction, so rollups commit or roll back together with the transactions they describe.
+ */
+@Service
+@Slf4j(topic = "TRANSACTION-ROLLUP-SERVICE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionRollupServiceImpl implements TransactionRollupService {
+
+    static String UPSERT_DAILY =
+            """
+            INSERT INTO transaction_daily_rollups
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, day, total_amount, tx_count)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE
+                total_amount = transaction_daily_rollups.total_amount + incoming.total_amount,
+                tx_count = transaction_daily_rollups.tx_count + incoming.tx_count,
+                updated_at = incoming.updated_at
+            """;
+
+    static String UPSERT_MONTHLY =
+            """
+            INSERT INTO transaction_monthly_rollups
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, month_start, total_amount, tx_count)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE
+                total_amount = transaction_monthly_rollups.total_amount + incoming.total_amount,
+                tx_count = transaction_monthly_rollups.tx_count + incoming.tx_count,
+                updated_at = incoming.updated_at
+            """;
+
+    // flagged wallets and categories are skipped, their rollups were dropped on delete
+    static String REBUILD_DAILY =
+            """
+            INSERT INTO transaction_daily_rollups
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, day, total_amount, tx_count)
+            SELECT UUID_TO_BIN(UUID()), NOW(6), NOW(6), false, t.user_id, t.wallet_id,
+                   COALESCE(t.category_id, ?), t.type, t.date, SUM(t.amount), COUNT(*)
+            FROM transactions t
+            JOIN wallets w ON w.id = t.wallet_id AND w.deleted = false
+            LEFT JOIN categories c ON c.id = t.category_id
+            WHERE t.user_id = ?
+              AND (t.category_id IS NULL OR c.deleted = false)
+            GROUP BY t.user_id, t.wallet_id, COALESCE(t.category_id, ?), t.type, t.date
+            """;
+
+    static String REBUILD_MONTHLY =
+            """
+            INSERT INTO transaction_monthly_rollups
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, month_start, total_amount, tx_count)
+            SELECT UUID_TO_BIN(UUID()), NOW(6), NOW(6), false, d.user_id, d.wallet_id,
+                   d.category_id, d.type, DATE_SUB(d.day, INTERVAL DAYOFMONTH(d.day) - 1 DAY),
+                   SUM(d.total_amount), SUM(d.tx_count)
+            FROM transaction_daily_rollups d
+            WHERE d.user_id = ?
+            GROUP BY d.user_id, d.wallet_id, d.category_id, d.type,
+                     DATE_SUB(d.day, INTERVAL DAYOFMONTH(d.day) - 1 DAY)
+            """;
+
+    static Comparator<RollupDelta> KEY_ORDER =
+            Comparator.comparing(RollupDelta::userId)
+                    .thenComparing(RollupDelta::walletId)
+                    .thenComparing(RollupDelta::categoryId)
+                    .thenComparing(RollupDelta::type)
+                    .thenComparing(RollupDelta::date);
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    UserRepository userRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    Executor rollupExecutor;
+
+    public TransactionRollupServiceImpl(
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("rollupExecutor") Executor rollupExecutor) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rollupExecutor = rollupExecutor;
+    }
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Override
+    @Transactional
+    public void apply(Collection<RollupDelta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Map<RollupDelta, RollupDelta> daily = new TreeMap<>(KEY_ORDER);
+        Map<RollupDelta, RollupDelta> monthly = new TreeMap<>(KEY_ORDER);
+
+        for (RollupDelta delta : deltas) {
+            if (delta.walletId() == null) continue;
+
+            daily.merge(delta, delta, this::combine);
+
+            RollupDelta monthKey =
+                    new RollupDelta(
+                            delta.userId(),
+                            delta.walletId(),
+                            delta.categoryId(),
+                            delta.type(),
+                            delta.monthStart(),
+                            delta.amount(),
+                            delta.count());
+            monthly.merge(monthKey, monthKey, this::combine);
+        }
+
+        write(UPSERT_DAILY, daily.values());
+        write(UPSERT_MONTHLY, monthly.values());
+    }
+
+    @Override
+    @Transactional
+    public void removeCategory(UUID userId, UUID categoryId) {
+        log.info("[removeCategory] userId={} categoryId={}", userId, categoryId);
+
+        byte[] user = UuidBytes.toBytes(userId);
+        byte[] category = UuidBytes.toBytes(categoryId);
+
+        jdbcTemplate.update(
+                "DELETE FROM transaction_daily_rollups WHERE user_id = ? AND category_id = ?",
+                user,
+                category);
+        jdbcTemplate.update(
+                "DELETE FROM transaction_monthly_rollups WHERE user_id = ? AND category_id = ?",
+                user,
+                category);
+    }
+
+    @Override
+    @Transactional
+    public void removeWallet(UUID userId, UUID walletId) {
+        log.info("[removeWallet] userId={} walletId={}", userId, walletId);
+
+        byte[] user = UuidBytes.toBytes(userId);
+        byte[] wallet = UuidBytes.toBytes(walletId);
+
+        jdbcTemplate.update(
+                "DELETE FROM transaction_daily_rollups WHERE user_id = ? AND wallet_id = ?",
+                user,
+                wallet);
+        jdbcTemplate.update(
+                "DELETE FROM transaction_monthly_rollups WHERE user_id = ? AND wallet_id = ?",
+                user,
+                wallet);
+    }
+
+    @Override
+    public void rebuildUser(UUID userId) {
+        log.debug("[rebuildUser] userId={}", userId);
+
+        byte[] user = UuidBytes.toBytes(userId);
+        byte[] noCategory = UuidBytes.toBytes(RollupDelta.NO_CATEGORY);
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    jdbcTemplate.update(
+                            "DELETE FROM transaction_monthly_rollups WHERE user_id = ?", user);
+                    jdbcTemplate.update(
+                            "DELETE FROM transaction_daily_rollups WHERE user_id = ?", user);
+                    jdbcTemplate.update(REBUILD_DAILY, noCategory, user, noCategory);
+                    jdbcTemplate.update(REBUILD_MONTHLY, user);
+                });
+    }
+
+    @Override
+    @Scheduled(cron = "${budgee.rollup.rebuild-cron:-}")
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        List<UUID> userIds = userRepository.findAllIds();
+        AtomicInteger failed = new AtomicInteger();
+
+        log.info("[rebuildAll] users={}", userIds.size());
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            tasks.add(
+                    CompletableFuture.runAsync(() -> rebuildUser(userId), rollupExecutor)
+                            .exceptionally(
+                                    e -> {
+                                        failed.incrementAndGet();
+                                        log.error(
+                                                "[rebuildAll] userId={} failed: {}",
+                                                userId,
+                                                e.getMessage());
+                                        return null;
+                                    }));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        log.info(
+                "[rebuildAll] users={} failed={} elapsedMs={}",
+                userIds.size(),
+                failed.get(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    RollupDelta combine(RollupDelta left, RollupDelta right) {
+        return new RollupDelta(
+                left.userId(),
+                left.walletId(),
+                left.categoryId(),
+                left.type(),
+                left.date(),
+                left.amount().add(right.amount()),
+                left.count() + right.count());
+    }
+
+    void write(String sql, Collection<RollupDelta> rows) {
+        List<RollupDelta> changed =
+                rows.stream()
+                        .filter(delta -> delta.count() != 0 || delta.amount().signum() != 0)
+                        .toList();
+        if (changed.isEmpty()) return;
+
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(
+                sql,
+                changed,
+                changed.size(),
+                (ps, delta) -> {
+                    ps.setBytes(1, UuidBytes.toBytes(UUID.randomUUID()));
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                    ps.setBytes(4, UuidBytes.toBytes(delta.userId()));
+                    ps.setBytes(5, UuidBytes.toBytes(delta.walletId()));
+                    ps.setBytes(6, UuidBytes.toBytes(delta.categoryId()));
+                    ps.setString(7, delta.type().name());
+                    ps.setDate(8, Date.valueOf(delta.date()));
+                    ps.setBigDecimal(9, delta.amount());
+                    ps.setLong(10, delta.count());
+                });
+    }
+}
@@ -9,26 +9,29 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
-import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.budgee.enums.TransactionType;
-import com.budgee.exception.BusinessException;
 import com.budgee.exception.ErrorCode;
 import com.budgee.exception.NotFoundException;
 import com.budgee.exception.ValidationException;
 import com.budgee.mapper.TransactionMapper;
 import com.budgee.model.*;
+import com.budgee.payload.request.TransactionFilter;
 import com.budgee.payload.request.TransactionRequest;
+import com.budgee.payload.response.CursorPagedResponse;
 import com.budgee.payload.response.TransactionResponse;
 import com.budgee.repository.TransactionRepository;
-import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryRef;
 import com.budgee.service.*;
+import com.budgee.service.impl.rollup.RollupDelta;
 import com.budgee.service.lookup.CategoryLookup;
 import com.budgee.service.lookup.WalletLookup;
 import com.budgee.util.AuthContext;
+import com.budgee.util.TransactionCursor;
 
 @Service
 @RequiredArgsConstructor
@@ -36,16 +39,23 @@ import com.budgee.util.AuthContext;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class TransactionServiceImpl implements TransactionService {
 
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    int MAX_PAGE_SIZE = 100;
+
     // -------------------------------------------------------------------
     // REPOSITORY
     // -------------------------------------------------------------------
     TransactionRepository transactionRepository;
-    WalletRepository walletRepository;
 
     // -------------------------------------------------------------------
     // SERVICE
     // -------------------------------------------------------------------
     WalletDomainService walletDomainService;
+    TransactionRollupService transactionRollupService;
+    BudgetTrackingService budgetTrackingService;
+    GoalTrackingService goalTrackingService;
 
     // -------------------------------------------------------------------
     // MAPPER
@@ -63,11 +73,6 @@ public class TransactionServiceImpl implements TransactionService {
     WalletLookup walletLookup;
     CategoryLookup categoryLookup;
 
-    // -------------------------------------------------------------------
-    // PRIVATE FIELDS
-    // -------------------------------------------------------------------
-    static final int MAX_RETRY = 3;
-
     // -------------------------------------------------------------------
     // PUBLIC FUNCTION
     // -------------------------------------------------------------------
@@ -77,40 +82,26 @@ public class TransactionServiceImpl implements TransactionService {
     public TransactionResponse createTransaction(TransactionRequest request) {
         log.info("[createTransaction] request={}", request);
 
-        int currentRetry = 1;
-
-        while (currentRetry <= MAX_RETRY) {
-            try {
-                Wallet wallet = walletLookup.getWalletForCurrentUser(request.walletId());
-                Category category = categoryLookup.getCategoryForCurrentUser(request.categoryId());
-                User user = authContext.getAuthenticatedUser();
+        Wallet wallet = walletLookup.getWalletForCurrentUser(request.walletId());
+        CategoryRef categoryRef = categoryLookup.getCategoryRefForCurrentUser(request.categoryId());
+        Category category = categoryLookup.getCategoryReference(categoryRef.id());
+        User user = authContext.getAuthenticatedUser();
 
-                Transaction transaction =
-                        transactionMapper.toTransaction(request, wallet, category, user);
+        Transaction transaction = transactionMapper.toTransaction(request, wallet, category, user);
 
-                ensureTransactionTypeMatchesCategory(category.getType(), request.type());
+        ensureTransactionTypeMatchesCategory(categoryRef.type(), request.type());
 
-                walletDomainService.applyTransaction(wallet, transaction);
+        log.info("[createTransaction] saving transaction...");
+        transactionRepository.save(transaction);
 
-                log.info(
-                        "[createTransaction] update wallet when create transactionId={}",
-                        transaction.getId());
-                walletRepository.save(wallet);
-
-                log.info("[createTransaction] saving transaction...");
-                transactionRepository.save(transaction);
-
-                return transactionMapper.toTransactionResponse(transaction);
-            } catch (OptimisticLockException e) {
-                log.warn("[createTransaction] Retrying wallet update (attempt {})", currentRetry);
-                if (currentRetry == MAX_RETRY)
-                    throw new BusinessException(ErrorCode.CONCURRENT_BALANCE_UPDATE);
-            } finally {
-                currentRetry++;
-            }
-        }
+        log.info(
+                "[createTransaction] update wallet when create transactionId={}",
+                transaction.getId());
+        walletDomainService.applyTransaction(
+                wallet.getId(), transaction.getType(), transaction.getAmount());
+        applyDeltas(List.of(RollupDelta.added(transaction)));
 
-        return null;
+        return transactionMapper.toTransactionResponse(transaction);
     }
 
     @Override
@@ -118,48 +109,35 @@ public class TransactionServiceImpl implements TransactionService {
     public TransactionResponse updateTransaction(UUID id, TransactionRequest request) {
         log.info("[updateTransaction] id={} request={}", id, request);
 
-        int currentRetry = 1;
-
-        while (currentRetry <= MAX_RETRY) {
-            try {
-                Transaction transaction = getTransactionById(id);
-                Category newCategory =
-                        categoryLookup.getCategoryForCurrentUser(request.categoryId());
-                Wallet newWallet = walletLookup.getWalletForCurrentUser(request.walletId());
-                Wallet oldWallet = transaction.getWallet();
-
-                BigDecimal oldAmount = transaction.getAmount();
-                BigDecimal newAmount = request.amount();
-                TransactionType oldType = transaction.getType();
-                TransactionType newType = request.type();
-
-                authContext.checkIsOwner(transaction);
-                ensureTransactionTypeMatchesCategory(newCategory.getType(), newType);
-
-                applyTransactionChanges(transaction, request, newCategory, newWallet);
-
-                walletDomainService.updateBalanceForTransactionUpdate(
-                        oldWallet, newWallet, oldAmount, newAmount, oldType, newType);
-                log.info(
-                        "[createTransaction] save wallet when update transactionId={}",
-                        transaction.getId());
-                walletRepository.saveAll(List.of(oldWallet, newWallet));
-
-                log.info("[updateTransaction] updated successfully");
-                transactionRepository.save(transaction);
-
-                return transactionMapper.toTransactionResponse(transaction);
-            } catch (OptimisticLockException e) {
-                log.warn("[updateTransaction] Retrying wallet update (attempt {})", currentRetry);
-
-                if (currentRetry == MAX_RETRY)
-                    throw new BusinessException(ErrorCode.CONCURRENT_BALANCE_UPDATE);
-            } finally {
-                currentRetry++;
-            }
-        }
+        Transaction transaction = getTransactionById(id);
+        CategoryRef newCategoryRef =
+                categoryLookup.getCategoryRefForCurrentUser(request.categoryId());
+        Category newCategory = categoryLookup.getCategoryReference(newCategoryRef.id());
+        Wallet newWallet = walletLookup.getWalletForCurrentUser(request.walletId());
+        UUID oldWalletId = transaction.getWallet().getId();
+
+        BigDecimal oldAmount = transaction.getAmount();
+        BigDecimal newAmount = request.amount();
+        TransactionType oldType = transaction.getType();
+        TransactionType newType = request.type();
 
-        return null;
+        authContext.checkIsOwner(transaction);
+        ensureTransactionTypeMatchesCategory(newCategoryRef.type(), newType);
+
+        RollupDelta before = RollupDelta.removed(transaction);
+        applyTransactionChanges(transaction, request, newCategory, newWallet);
+
+        log.info("[updateTransaction] updated successfully");
+        transactionRepository.save(transaction);
+
+        log.info(
+                "[updateTransaction] update wallet when update transactionId={}",
+                transaction.getId());
+        walletDomainService.updateBalanceForTransactionUpdate(
+                oldWalletId, newWallet.getId(), oldAmount, newAmount, oldType, newType);
+        applyDeltas(List.of(before, RollupDelta.added(transaction)));
+
+        return transactionMapper.toTransactionResponse(transaction);
     }
 
     @Override
@@ -172,6 +150,40 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionMapper.toTransactionResponse(transaction);
     }
 
+    @Override
+    public CursorPagedResponse<TransactionResponse> getTransactions(
+            TransactionFilter filter, String cursor, int size) {
+        log.info("[getTransactions] filter={} size={}", filter, size);
+
+        UUID userId = authContext.getAuthenticatedUserId();
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // one extra row tells whether another page exists without a count query
+        List<Transaction> rows =
+                transactionRepository.findPageForUser(
+                        userId,
+                        filter.walletId(),
+                        filter.categoryId(),
+                        filter.type(),
+                        filter.fromDate(),
+                        filter.toDate(),
+                        after == null ? null : after.date(),
+                        after == null ? null : after.time(),
+                        after == null ? null : after.id(),
+                        PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransactionCursor.of(page.getLast()).encode() : null;
+
+        return new CursorPagedResponse<>(
+                page.stream().map(transactionMapper::toTransactionResponse).toList(),
+                page.size(),
+                nextCursor,
+                hasNext);
+    }
+
     @Override
     public List<Transaction> getTransactionByCategory(Category category) {
         log.info("[getTransactionByCategory] category={}", category);
@@ -184,31 +196,16 @@ public class TransactionServiceImpl implements TransactionService {
     public void deleteTransaction(UUID id) {
         log.info("[deleteTransaction] id={}", id);
 
-        int currentRetry = 1;
-
-        while (currentRetry <= MAX_RETRY) {
-            try {
-                Transaction transaction = getTransactionById(id);
-                Wallet wallet = transaction.getWallet();
-                authContext.checkIsOwner(transaction);
-
-                walletDomainService.reverseTransaction(wallet, transaction);
-                log.info(
-                        "[deleteTransaction] update wallet when delete transactionId={}",
-                        transaction.getId());
-                walletRepository.save(wallet);
-
-                log.warn("[deleteTransaction] deleted transaction id={}", id);
-                transactionRepository.delete(transaction);
-            } catch (OptimisticLockException e) {
-                log.warn("[deleteTransaction] Retrying wallet update (attempt {})", currentRetry);
-
-                if (currentRetry == MAX_RETRY)
-                    throw new BusinessException(ErrorCode.CONCURRENT_BALANCE_UPDATE);
-            } finally {
-                currentRetry++;
-            }
-        }
+        Transaction transaction = getTransactionById(id);
+        authContext.checkIsOwner(transaction);
+
+        log.warn("[deleteTransaction] deleted transaction id={}", id);
+        transactionRepository.delete(transaction);
+
+        log.info("[deleteTransaction] update wallet when delete transactionId={}", id);
+        walletDomainService.reverseTransaction(
+                transaction.getWallet().getId(), transaction.getType(), transaction.getAmount());
+        applyDeltas(List.of(RollupDelta.removed(transaction)));
     }
 
     public Transaction getTransactionById(UUID id) {
@@ -235,6 +232,12 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setNote(request.note());
     }
 
+    void applyDeltas(List<RollupDelta> deltas) {
+        transactionRollupService.apply(deltas);
+        budgetTrackingService.apply(deltas);
+        goalTrackingService.apply(deltas);
+    }
+
     void ensureTransactionTypeMatchesCategory(
             TransactionType typeOfCategory, TransactionType typeOfTransaction) {
         log.info(
@@ -20,6 +20,7 @@ import com.budgee.payload.request.RegisterRequest;
 import com.budgee.payload.response.RegisterResponse;
 import com.budgee.repository.UserRepository;
 import com.budgee.service.UserService;
+import com.budgee.service.impl.auth.UserStatusCache;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +38,11 @@ public class UserServiceImpl implements UserService {
     // -------------------------------------------------------------------
     UserFactory userFactory;
 
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    UserStatusCache userStatusCache;
+
     // -------------------------------------------------------------------
     // PUBLIC FUNCTION
     // -------------------------------------------------------------------
@@ -67,6 +73,8 @@ public class UserServiceImpl implements UserService {
 
         log.info("[activateUser] update active user");
         userRepository.save(user);
+
+        userStatusCache.invalidate(userId);
     }
 
     // -------------------------------------------------------------------
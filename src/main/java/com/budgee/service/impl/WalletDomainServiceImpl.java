@@ -6,6 +6,8 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
 
 import jakarta.transaction.Transactional;
 
@@ -13,98 +15,99 @@ import org.springframework.stereotype.Service;
 
 import com.budgee.enums.TransactionType;
 import com.budgee.exception.ErrorCode;
+import com.budgee.exception.NotFoundException;
 import com.budgee.exception.ValidationException;
-import com.budgee.model.Transaction;
-import com.budgee.model.Wallet;
+import com.budgee.repository.WalletRepository;
 import com.budgee.service.WalletDomainService;
 
+/**
+ * Balance engine for wallets. Every balance change is expressed as a signed delta and written with
+ * a single conditional {@code UPDATE}, so callers never load, mutate and save the {@code Wallet}
+ * entity. Note that a {@code Wallet} already attached to the persistence context is not refreshed
+ * by these updates.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j(topic = "WALLET-DOMAIN-SERVICE")
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class WalletDomainServiceImpl implements WalletDomainService {
 
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    WalletRepository walletRepository;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
     @Override
-    public void applyTransaction(Wallet wallet, Transaction transaction) {
-        log.info(
-                "[applyTransaction] walletId={} transactionId={}",
-                wallet.getId(),
-                transaction.getId());
-
-        switch (transaction.getType()) {
-            case EXPENSE -> wallet.decrease(transaction.getAmount());
-            case INCOME -> wallet.increase(transaction.getAmount());
-            default -> throw new IllegalArgumentException(
-                    "Unsupported type: " + transaction.getType());
-        }
+    public BigDecimal signedAmount(TransactionType type, BigDecimal amount) {
+        return switch (type) {
+            case EXPENSE -> amount.negate();
+            case INCOME -> amount;
+            default -> throw new ValidationException(ErrorCode.INVALID_TRANSACTION_TYPE);
+        };
     }
 
     @Override
-    public void reverseTransaction(Wallet wallet, Transaction transaction) {
-        log.info(
-                "[reverseTransaction] walletId={} transactionId={}",
-                wallet.getId(),
-                transaction.getId());
-
-        switch (transaction.getType()) {
-            case EXPENSE -> wallet.increase(transaction.getAmount());
-            case INCOME -> wallet.decrease(transaction.getAmount());
-            default -> throw new IllegalArgumentException(
-                    "Unsupported type: " + transaction.getType());
-        }
+    @Transactional
+    public void applyTransaction(UUID walletId, TransactionType type, BigDecimal amount) {
+        log.info("[applyTransaction] walletId={} type={}", walletId, type);
+
+        applyBalanceDelta(walletId, signedAmount(type, amount));
     }
 
+    @Override
+    @Transactional
+    public void reverseTransaction(UUID walletId, TransactionType type, BigDecimal amount) {
+        log.info("[reverseTransaction] walletId={} type={}", walletId, type);
+
+        applyBalanceDelta(walletId, signedAmount(type, amount).negate());
+    }
+
+    @Override
     @Transactional
     public void updateBalanceForTransactionUpdate(
-            Wallet oldWallet,
-            Wallet newWallet,
+            UUID oldWalletId,
+            UUID newWalletId,
             BigDecimal oldAmount,
             BigDecimal newAmount,
             TransactionType oldType,
             TransactionType newType) {
         log.info("[updateBalanceForTransactionUpdate]");
 
-        boolean sameWallet = oldWallet.getId().equals(newWallet.getId());
+        BigDecimal reverseOld = signedAmount(oldType, oldAmount).negate();
+        BigDecimal applyNew = signedAmount(newType, newAmount);
 
-        if (sameWallet) {
-            handleSameWallet(oldWallet, oldAmount, newAmount, oldType, newType);
-        } else {
-            reverseTransaction(oldWallet, Transaction.of(oldAmount, oldType));
-            applyTransaction(newWallet, Transaction.of(newAmount, newType));
+        if (oldWalletId.equals(newWalletId)) {
+            applyBalanceDelta(oldWalletId, reverseOld.add(applyNew));
+            return;
         }
-    }
-
-    void handleSameWallet(
-            Wallet wallet,
-            BigDecimal oldAmount,
-            BigDecimal newAmount,
-            TransactionType oldType,
-            TransactionType newType) {
-        log.info("[handleSameWallet]");
 
-        if (oldType.equals(newType)) {
-            BigDecimal diff = calculateDiff(oldType, oldAmount, newAmount);
-            adjust(wallet, diff);
+        // lock wallet rows in a stable order so two opposite moves cannot deadlock
+        if (oldWalletId.compareTo(newWalletId) < 0) {
+            applyBalanceDelta(oldWalletId, reverseOld);
+            applyBalanceDelta(newWalletId, applyNew);
         } else {
-            reverseTransaction(wallet, Transaction.of(oldAmount, oldType));
-            applyTransaction(wallet, Transaction.of(newAmount, newType));
+            applyBalanceDelta(newWalletId, applyNew);
+            applyBalanceDelta(oldWalletId, reverseOld);
         }
     }
 
-    BigDecimal calculateDiff(TransactionType type, BigDecimal oldAmount, BigDecimal newAmount) {
-        log.info("[calculateDiff]");
+    @Override
+    @Transactional
+    public void applyBalanceDelta(UUID walletId, BigDecimal delta) {
+        log.info("[applyBalanceDelta] walletId={} delta={}", walletId, delta);
 
-        return switch (type) {
-            case EXPENSE -> oldAmount.subtract(newAmount);
-            case INCOME -> newAmount.subtract(oldAmount);
-            default -> throw new ValidationException(ErrorCode.INVALID_TRANSACTION_TYPE);
-        };
-    }
+        if (delta.signum() == 0) return;
+
+        int updated = walletRepository.applyBalanceDelta(walletId, delta, Instant.now());
 
-    void adjust(Wallet wallet, BigDecimal diff) {
-        log.info("[adjust]");
+        if (updated == 0) {
+            log.error("[applyBalanceDelta] wallet not found walletId={}", walletId);
 
-        if (diff.signum() > 0) wallet.increase(diff);
-        else if (diff.signum() < 0) wallet.decrease(diff.abs());
+            throw new NotFoundException(ErrorCode.WALLET_NOT_FOUND);
+        }
     }
 }
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,9 +23,15 @@ import com.budgee.mapper.WalletMapper;
 import com.budgee.model.User;
 import com.budgee.model.Wallet;
 import com.budgee.payload.request.WalletRequest;
+import com.budgee.payload.response.NetWorthEntry;
+import com.budgee.payload.response.NetWorthResponse;
 import com.budgee.payload.response.WalletResponse;
 import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CurrencyTotal;
 import com.budgee.service.WalletService;
+import com.budgee.service.impl.fx.FxRateRegistry;
+import com.budgee.service.impl.fx.FxRateSnapshot;
+import com.budgee.service.lookup.UserReferenceCache;
 import com.budgee.service.validator.WalletValidator;
 import com.budgee.util.AuthContext;
 
@@ -56,6 +64,8 @@ public class WalletServiceImpl implements WalletService {
     // HELPER
     // -------------------------------------------------------------------
     AuthContext authContext;
+    FxRateRegistry fxRateRegistry;
+    UserReferenceCache userReferenceCache;
 
     // -------------------------------------------------------------------
     // VALIDATOR
@@ -95,9 +105,11 @@ public class WalletServiceImpl implements WalletService {
         Wallet wallet = walletMapper.toWallet(request, user, currency);
 
         setDefaultWallet(request.isDefault(), wallet);
+        wallet.setOpeningBalance(wallet.getBalance());
 
         log.info("[createWallet] saved wallet={} balance={}", wallet.getId(), wallet.getBalance());
         walletRepository.save(wallet);
+        userReferenceCache.invalidateAfterCommit(user.getId());
 
         return walletMapper.toWalletResponse(wallet);
     }
@@ -108,10 +120,13 @@ public class WalletServiceImpl implements WalletService {
         log.info("[updateWallet] id={} request={}", id, request);
 
         Wallet wallet = this.getWalletByIdForOwner(id);
+        BigDecimal balanceBefore = wallet.getBalance();
 
         applyWalletUpdates(wallet, request);
+        shiftOpeningBalance(wallet, balanceBefore);
 
         walletRepository.save(wallet);
+        userReferenceCache.invalidateAfterCommit(authContext.getAuthenticatedUserId());
         log.info(
                 "[updateWallet] updated wallet={} balance={}", wallet.getId(), wallet.getBalance());
 
@@ -129,8 +144,10 @@ public class WalletServiceImpl implements WalletService {
         eventPublisher.publishEvent(
                 new WalletDeletedEvent(wallet.getId(), authenticatedUser.getId()));
 
-        walletRepository.delete(wallet);
-        log.warn("[deleteWallet] deleted walletId={}", wallet.getId());
+        // dependent rows are removed in the background by SoftDeletePurgeJob
+        wallet.setDeleted(true);
+        walletRepository.save(wallet);
+        log.warn("[deleteWallet] flagged walletId={}", wallet.getId());
     }
 
     @Override
@@ -139,9 +156,37 @@ public class WalletServiceImpl implements WalletService {
 
         return walletRepository
                 .findById(id)
+                .filter(wallet -> !wallet.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WALLET_NOT_FOUND));
     }
 
+    @Override
+    public NetWorthResponse getNetWorth(Currency currency, boolean includeIgnored) {
+        log.info("[getNetWorth] currency={} includeIgnored={}", currency, includeIgnored);
+
+        UUID userId = authContext.getAuthenticatedUserId();
+        FxRateSnapshot rates = fxRateRegistry.current();
+        Currency target = currency != null ? currency : rates.base();
+
+        // balances arrive already summed per currency, so conversion runs once per currency
+        List<NetWorthEntry> entries = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (CurrencyTotal sum : walletRepository.sumBalanceByCurrency(userId, includeIgnored)) {
+            Currency source = sum.currency() != null ? sum.currency() : Currency.VND;
+            BigDecimal converted = rates.convert(sum.balance(), source, target);
+
+            entries.add(new NetWorthEntry(source, sum.balance(), converted));
+            total = total.add(converted);
+        }
+
+        return NetWorthResponse.builder()
+                .currency(target)
+                .total(total)
+                .ratesAsOf(rates.loadedAt())
+                .currencies(entries)
+                .build();
+    }
+
     // -------------------------------------------------------------------
     // PRIVATE FUNCTION
     // -------------------------------------------------------------------
@@ -160,6 +205,16 @@ public class WalletServiceImpl implements WalletService {
                 wallet::getIsTotalIgnored, wallet::setIsTotalIgnored, request.isTotalIgnored());
     }
 
+    /** A manual balance edit is not a transaction, so it moves the reconciliation baseline. */
+    void shiftOpeningBalance(Wallet wallet, BigDecimal balanceBefore) {
+        if (wallet.getOpeningBalance() == null) return;
+
+        BigDecimal edit = wallet.getBalance().subtract(balanceBefore);
+        if (edit.signum() != 0) {
+            wallet.setOpeningBalance(wallet.getOpeningBalance().add(edit));
+        }
+    }
+
     void setDefaultWallet(Boolean isDefault, Wallet wallet) {
         log.info("[setDefaultWallet]");
 
@@ -0,0 +1,27 @@
+package com.budgee.service.impl.auth;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.budgee.enums.Role;
+
+/**
+ * Lightweight, immutable principal built from the verified claims of an access token. It lets the
+ * request filter authenticate a caller without loading the {@code User} row.
+ */
+public record AuthPrincipal(UUID userId, String email, Role role) implements Principal {
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_".concat(role.name())));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
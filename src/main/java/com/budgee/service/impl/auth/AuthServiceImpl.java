@@ -3,13 +3,17 @@ package com.budgee.service.impl.auth;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -51,10 +55,16 @@ public class AuthServiceImpl implements AuthService {
     JwtService jwtService;
     AuthenticationManager authenticationManager;
     VerificationCodeService verificationCodeService;
+    RefreshTokenRevocationStore revocationStore;
+    LastLoginBuffer lastLoginBuffer;
 
     // -------------------------------------------------------------------
     // PRIVATE FIELDS
     // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.security.accept-legacy-refresh-tokens:true}")
+    boolean ACCEPT_LEGACY_REFRESH_TOKENS;
+
     Clock clock = Clock.systemDefaultZone();
 
     // -------------------------------------------------------------------
@@ -92,8 +102,7 @@ public class AuthServiceImpl implements AuthService {
 
         user.ensureIsActiveAccount();
 
-        user.setLastLogin(LocalDateTime.now(clock));
-        userRepository.save(user);
+        lastLoginBuffer.record(user.getId(), LocalDateTime.now(clock));
 
         return issueTokens(user);
     }
@@ -109,9 +118,23 @@ public class AuthServiceImpl implements AuthService {
 
         try {
             String email = jwtService.extractEmail(refreshToken, TokenType.REFRESH_TOKEN);
+            String tokenId = jwtService.extractTokenId(refreshToken, TokenType.REFRESH_TOKEN);
+
+            if (!StringUtils.hasText(tokenId)) tokenId = legacyTokenId(refreshToken);
+
+            if (revocationStore.isRevoked(tokenId)
+                    || !revocationStore.revoke(
+                            tokenId,
+                            jwtService.extractExpiration(
+                                    refreshToken, TokenType.REFRESH_TOKEN))) {
+                log.warn("refresh token reused fp={}", fingerprint(refreshToken));
+                throw new com.budgee.exception.AuthenticationException(
+                        ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+
             User user = findUserByEmail(email);
 
-            return issueTokensIgnoreRefreshToken(user, refreshToken);
+            return issueTokens(user);
         } catch (Exception ex) {
             log.warn(
                     "refresh token invalid fp={}, reason={}",
@@ -156,11 +179,19 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
-    TokenResponse issueTokensIgnoreRefreshToken(User user, String refreshToken) {
-        return TokenResponse.builder()
-                .accessToken(jwtService.generateAccessToken(user))
-                .refreshToken(refreshToken)
-                .build();
+    /**
+     * Refresh tokens issued before rotation carry no jti. Each is accepted once under an id derived
+     * from the token itself, so it is revoked like any other and rotated into one that has a jti.
+     */
+    String legacyTokenId(String refreshToken) {
+        if (!ACCEPT_LEGACY_REFRESH_TOKENS) {
+            throw new com.budgee.exception.AuthenticationException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        log.info("legacy refresh token without jti fp={}", fingerprint(refreshToken));
+
+        // name-based (version 3) ids never collide with the random jti of newer tokens
+        return UUID.nameUUIDFromBytes(refreshToken.getBytes(StandardCharsets.US_ASCII)).toString();
     }
 
     TokenResponse issueTokens(User user) {
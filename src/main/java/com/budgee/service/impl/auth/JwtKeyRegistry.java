@@ -0,0 +1,239 @@
+package com.budgee.service.impl.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.budgee.enums.TokenType;
+import com.budgee.exception.AuthenticationException;
+import com.budgee.exception.ErrorCode;
+
+/**
+ * Holds the decoded HMAC keys for every {@link TokenType} and one prebuilt, thread-safe parser per
+ * type. Tokens are signed with the active key and carry its id in the {@code kid} header; parsers
+ * pick the verification key by that id, so older keys keep validating while a new one is active.
+ *
+ * <p>Keys from {@code jwt.private-key.*} are registered under {@code jwt.key-id}. When {@code
+ * jwt.key-file} points to a properties file, its keys are merged on top and the file is polled for
+ * changes, which allows rotating secrets without a restart:
+ *
+ * <pre>
+ * access-token.active=2026-10
+ * access-token.keys.2026-10=&lt;base64&gt;
+ * access-token.keys.2026-04=&lt;base64&gt;
+ * </pre>
+ */
+@Component
+@Slf4j(topic = "JWT-KEY-REGISTRY")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JwtKeyRegistry {
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+
+    @NonFinal
+    @Value("${jwt.private-key.access-token}")
+    String ACCESS_TOKEN_PRIVATE_KEY;
+
+    @NonFinal
+    @Value("${jwt.private-key.refresh-token}")
+    String REFRESH_TOKEN_PRIVATE_KEY;
+
+    @NonFinal
+    @Value("${jwt.key-id:default}")
+    String DEFAULT_KEY_ID;
+
+    @NonFinal
+    @Value("${jwt.key-file:}")
+    String KEY_FILE;
+
+    Map<TokenType, JwtParser> parsers = new EnumMap<>(TokenType.class);
+
+    @NonFinal volatile Map<TokenType, KeySet> keySets = Map.of();
+
+    @NonFinal long keyFileModifiedAt = -1;
+
+    @NonFinal volatile long keyVersion;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void init() {
+        reload();
+
+        for (TokenType type : TokenType.values()) {
+            parsers.put(
+                    type,
+                    Jwts.parserBuilder()
+                            .setSigningKeyResolver(
+                                    new SigningKeyResolverAdapter() {
+                                        @Override
+                                        public Key resolveSigningKey(
+                                                JwsHeader header, Claims claims) {
+                                            return verificationKey(type, header.getKeyId());
+                                        }
+                                    })
+                            .build());
+        }
+    }
+
+    public JwtParser parser(TokenType type) {
+        JwtParser parser = parsers.get(type);
+        if (parser == null) throw new AuthenticationException(ErrorCode.INVALID_TOKEN_TYPE);
+
+        return parser;
+    }
+
+    public String activeKeyId(TokenType type) {
+        return keySet(type).activeKeyId();
+    }
+
+    public Key activeKey(TokenType type) {
+        KeySet keySet = keySet(type);
+
+        return keySet.keys().get(keySet.activeKeyId());
+    }
+
+    /** Incremented on every reload, so callers can drop state derived from older keys. */
+    public long keyVersion() {
+        return keyVersion;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-file-poll-ms:30000}")
+    public void reloadIfChanged() {
+        if (!StringUtils.hasText(KEY_FILE)) return;
+
+        try {
+            long modifiedAt = Files.getLastModifiedTime(Path.of(KEY_FILE)).toMillis();
+            if (modifiedAt == keyFileModifiedAt) return;
+
+            log.info("[reloadIfChanged] key file changed, reloading");
+            reload();
+        } catch (Exception e) {
+            // keep serving with the previous keys
+            log.error("[reloadIfChanged] failed to reload keys: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    synchronized void reload() {
+        Map<TokenType, String> activeIds = new EnumMap<>(TokenType.class);
+        Map<TokenType, Map<String, Key>> keys = new EnumMap<>(TokenType.class);
+
+        addKey(keys, activeIds, TokenType.ACCESS_TOKEN, DEFAULT_KEY_ID, ACCESS_TOKEN_PRIVATE_KEY);
+        addKey(keys, activeIds, TokenType.REFRESH_TOKEN, DEFAULT_KEY_ID, REFRESH_TOKEN_PRIVATE_KEY);
+
+        if (StringUtils.hasText(KEY_FILE)) loadKeyFile(keys, activeIds);
+
+        Map<TokenType, KeySet> snapshot = new EnumMap<>(TokenType.class);
+        for (Map.Entry<TokenType, Map<String, Key>> entry : keys.entrySet()) {
+            String activeId = activeIds.get(entry.getKey());
+            if (!entry.getValue().containsKey(activeId)) {
+                throw new IllegalStateException(
+                        "Active key " + activeId + " missing for " + entry.getKey());
+            }
+
+            snapshot.put(entry.getKey(), new KeySet(activeId, Map.copyOf(entry.getValue())));
+        }
+
+        keySets = Map.copyOf(snapshot);
+        keyVersion++;
+        log.info("[reload] loaded keys for {}", keySets.keySet());
+    }
+
+    void loadKeyFile(Map<TokenType, Map<String, Key>> keys, Map<TokenType, String> activeIds) {
+        Path path = Path.of(KEY_FILE);
+        Properties properties = new Properties();
+
+        try (InputStream in = Files.newInputStream(path)) {
+            keyFileModifiedAt = Files.getLastModifiedTime(path).toMillis();
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT key file " + KEY_FILE, e);
+        }
+
+        for (TokenType type : TokenType.values()) {
+            String prefix = propertyPrefix(type);
+            String keyPrefix = prefix + ".keys.";
+
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(keyPrefix)) {
+                    String keyId = name.substring(keyPrefix.length());
+                    addKey(keys, activeIds, type, keyId, properties.getProperty(name));
+                }
+            }
+
+            String activeId = properties.getProperty(prefix + ".active");
+            if (StringUtils.hasText(activeId)) activeIds.put(type, activeId.trim());
+        }
+    }
+
+    void addKey(
+            Map<TokenType, Map<String, Key>> keys,
+            Map<TokenType, String> activeIds,
+            TokenType type,
+            String keyId,
+            String base64Secret) {
+        keys.computeIfAbsent(type, k -> new HashMap<>())
+                .put(keyId, Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret.trim())));
+        activeIds.putIfAbsent(type, keyId);
+    }
+
+    Key verificationKey(TokenType type, String keyId) {
+        KeySet keySet = keySet(type);
+
+        // tokens issued before key ids were introduced carry no kid
+        Key key = keySet.keys().get(keyId == null ? keySet.activeKeyId() : keyId);
+        if (key == null) {
+            log.warn("[verificationKey] unknown kid={} type={}", keyId, type);
+
+            throw new AuthenticationException(ErrorCode.INVALID_TOKEN);
+        }
+
+        return key;
+    }
+
+    KeySet keySet(TokenType type) {
+        KeySet keySet = keySets.get(type);
+        if (keySet == null) throw new AuthenticationException(ErrorCode.INVALID_TOKEN_TYPE);
+
+        return keySet;
+    }
+
+    String propertyPrefix(TokenType type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    record KeySet(String activeKeyId, Map<String, Key> keys) {}
+}
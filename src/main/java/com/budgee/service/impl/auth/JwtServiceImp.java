@@ -5,20 +5,20 @@ import static com.budgee.enums.TokenType.REFRESH_TOKEN;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import lombok.extern.slf4j.Slf4j;
 
-import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -26,9 +26,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import com.budgee.enums.Role;
 import com.budgee.enums.TokenType;
-import com.budgee.exception.AuthenticationException;
-import com.budgee.exception.ErrorCode;
 import com.budgee.model.User;
 import com.budgee.service.JwtService;
 
@@ -39,16 +38,14 @@ import com.budgee.service.JwtService;
 public class JwtServiceImp implements JwtService {
 
     // -------------------------------------------------------------------
-    // PRIVATE VALUE
+    // HELPER
     // -------------------------------------------------------------------
+    JwtKeyRegistry jwtKeyRegistry;
+    VerifiedTokenCache verifiedTokenCache;
 
-    @NonFinal
-    @Value("${jwt.private-key.access-token}")
-    String ACCESS_TOKEN_PRIVATE_KEY;
-
-    @NonFinal
-    @Value("${jwt.private-key.refresh-token}")
-    String REFRESH_TOKEN_PRIVATE_KEY;
+    // -------------------------------------------------------------------
+    // PRIVATE VALUE
+    // -------------------------------------------------------------------
 
     @NonFinal
     @Value("${jwt.expiration.access-token}")
@@ -98,6 +95,32 @@ public class JwtServiceImp implements JwtService {
         return extractClaim(token, type, Claims::getSubject);
     }
 
+    @Override
+    public AuthPrincipal extractPrincipal(String token, TokenType type) {
+        log.info("extractPrincipal");
+
+        Claims claims = extraAllClaim(token, type);
+
+        return new AuthPrincipal(
+                UUID.fromString(claims.get("userId", String.class)),
+                claims.getSubject(),
+                Role.valueOf(claims.get("role", String.class)));
+    }
+
+    @Override
+    public String extractTokenId(String token, TokenType type) {
+        log.info("extractTokenId");
+
+        return extractClaim(token, type, Claims::getId);
+    }
+
+    @Override
+    public Instant extractExpiration(String token, TokenType type) {
+        log.info("extractExpiration");
+
+        return extractClaim(token, type, Claims::getExpiration).toInstant();
+    }
+
     // -------------------------------------------------------------------
     // PRIVATE FUNCTION
     // -------------------------------------------------------------------
@@ -113,7 +136,8 @@ public class JwtServiceImp implements JwtService {
                         new Date(
                                 System.currentTimeMillis()
                                         + Long.parseLong(ACCESS_TOKEN_EXPIRY_TIME)))
-                .signWith(getKeys(ACCESS_TOKEN), SignatureAlgorithm.HS256)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRegistry.activeKeyId(ACCESS_TOKEN))
+                .signWith(jwtKeyRegistry.activeKey(ACCESS_TOKEN), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -123,31 +147,17 @@ public class JwtServiceImp implements JwtService {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(email)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(
                         new Date(
                                 System.currentTimeMillis()
                                         + Long.parseLong(REFRESH_TOKEN_EXPIRY_TIME)))
-                .signWith(getKeys(REFRESH_TOKEN), SignatureAlgorithm.HS256)
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyRegistry.activeKeyId(REFRESH_TOKEN))
+                .signWith(jwtKeyRegistry.activeKey(REFRESH_TOKEN), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    Key getKeys(TokenType type) {
-        log.info("----------[ GET-KEY ]----------");
-
-        switch (type) {
-            case ACCESS_TOKEN -> {
-                return Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_TOKEN_PRIVATE_KEY));
-            }
-
-            case REFRESH_TOKEN -> {
-                return Keys.hmacShaKeyFor(Decoders.BASE64.decode(REFRESH_TOKEN_PRIVATE_KEY));
-            }
-
-            default -> throw new AuthenticationException(ErrorCode.INVALID_TOKEN_TYPE);
-        }
-    }
-
     <T> T extractClaim(String token, TokenType type, Function<Claims, T> claimResolver) {
         log.info("----------[ extractClaim ]----------");
 
@@ -159,11 +169,10 @@ public class JwtServiceImp implements JwtService {
         log.info("----------[ extraAllClaim ]----------");
 
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getKeys(type))
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return verifiedTokenCache.getOrVerify(
+                    type,
+                    token,
+                    () -> jwtKeyRegistry.parser(type).parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException e) { // Invalid signature or expired token
             throw new AccessDeniedException("Access denied: " + e.getMessage());
         }
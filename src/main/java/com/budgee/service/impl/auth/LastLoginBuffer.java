@@ -0,0 +1,123 @@
+package com.budgee.service.impl.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.budgee.util.UuidBytes;
+
+/**
+ * Write-behind buffer for {@code users.last_login}. Logins only record the timestamp in memory;
+ * the latest value per user is written periodically in JDBC batches and once more on shutdown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "LAST-LOGIN-BUFFER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LastLoginBuffer {
+
+    static String UPDATE_LAST_LOGIN = "UPDATE users SET last_login = ? WHERE id = ?";
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JdbcTemplate jdbcTemplate;
+    MeterRegistry meterRegistry;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.auth.last-login.batch-size:500}")
+    int BATCH_SIZE;
+
+    Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("budgee.auth.last-login.pending", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    public void record(UUID userId, LocalDateTime lastLogin) {
+        pending.merge(userId, lastLogin, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${budgee.auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Map.Entry<UUID, LocalDateTime>> batch = new ArrayList<>(BATCH_SIZE);
+        int written = 0;
+
+        for (Map.Entry<UUID, LocalDateTime> entry : pending.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+
+            if (batch.size() == BATCH_SIZE) {
+                written += write(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) written += write(batch);
+
+        log.debug("[flush] written={} remaining={}", written, pending.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[flushOnShutdown] pending={}", pending.size());
+
+        flush();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    int write(List<Map.Entry<UUID, LocalDateTime>> batch) {
+        try {
+            jdbcTemplate.batchUpdate(
+                    UPDATE_LAST_LOGIN,
+                    batch,
+                    batch.size(),
+                    (ps, entry) -> {
+                        ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+                        ps.setBytes(2, UuidBytes.toBytes(entry.getKey()));
+                    });
+        } catch (Exception e) {
+            // entries stay pending and are retried on the next run
+            log.error("[write] batch of {} failed: {}", batch.size(), e.getMessage());
+
+            return 0;
+        }
+
+        // drop only what was written; a newer login recorded meanwhile stays pending
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+
+        return batch.size();
+    }
+}
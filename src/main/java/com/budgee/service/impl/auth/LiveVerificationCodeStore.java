@@ -0,0 +1,110 @@
+package com.budgee.service.impl.auth;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.budgee.enums.VerificationType;
+
+/**
+ * Optional in-memory copy of verification codes that are still live, so {@code verifyCode} can
+ * reject wrong or expired codes without reading {@code verification_codes}. Entries are only
+ * visible once the inserting transaction commits. Only suitable for single-instance deployments,
+ * hence disabled by default.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "LIVE-VERIFICATION-CODE-STORE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LiveVerificationCodeStore {
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.verification.live-store.enabled:false}")
+    boolean ENABLED;
+
+    Map<Key, LiveCode> codes = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public void remember(
+            UUID userId, VerificationType type, UUID codeId, String code, LocalDateTime expiresAt) {
+        if (!ENABLED) return;
+
+        Key key = new Key(userId, type);
+        LiveCode liveCode = new LiveCode(codeId, code, expiresAt);
+
+        // a newer code replaces the previous one in the table, so drop it here right away
+        codes.remove(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            codes.put(key, liveCode);
+                        }
+                    });
+        } else {
+            codes.put(key, liveCode);
+        }
+    }
+
+    public Optional<LiveCode> find(UUID userId, VerificationType type) {
+        if (!ENABLED) return Optional.empty();
+
+        return Optional.ofNullable(codes.get(new Key(userId, type)));
+    }
+
+    public void forget(UUID userId, VerificationType type) {
+        codes.remove(new Key(userId, type));
+    }
+
+    @Scheduled(fixedDelayString = "${budgee.verification.live-store.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        if (codes.isEmpty()) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        codes.values().removeIf(liveCode -> liveCode.expiresAt().isBefore(now));
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    record Key(UUID userId, VerificationType type) {}
+
+    public record LiveCode(UUID id, String code, LocalDateTime expiresAt) {
+
+        public boolean matches(String candidate) {
+            return candidate != null
+                    && MessageDigest.isEqual(
+                            code.getBytes(StandardCharsets.UTF_8),
+                            candidate.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.budgee.service.impl.auth;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.budgee.config.RateLimitProperties;
+import com.budgee.exception.RateLimitException;
+
+/**
+ * In-memory token-bucket rate limiter. Buckets are keyed by endpoint name and caller key and live
+ * in a {@link ConcurrentHashMap}; each bucket synchronizes on itself, so callers only contend with
+ * requests for the same key. Idle buckets are evicted periodically.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "RATE-LIMITER")
+@EnableConfigurationProperties(RateLimitProperties.class)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RateLimiter {
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    RateLimitProperties properties;
+
+    Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    /**
+     * Takes one token for {@code key} on {@code endpoint}. Returns 0 when allowed, otherwise the
+     * number of seconds until a token is available. Unknown endpoints are not limited.
+     */
+    public long tryAcquire(String endpoint, String key) {
+        RateLimitProperties.Limit limit = properties.endpoints().get(endpoint);
+        if (!properties.enabled() || limit == null || key == null) return 0;
+
+        Bucket bucket =
+                buckets.computeIfAbsent(
+                        endpoint + '|' + key,
+                        k -> new Bucket(limit.capacity(), limit.refillPeriod().toNanos()));
+
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    public void check(String endpoint, String key) {
+        long retryAfterSeconds = tryAcquire(endpoint, key);
+
+        if (retryAfterSeconds > 0) {
+            log.warn(
+                    "[check] rate limited endpoint={} retryAfter={}s", endpoint, retryAfterSeconds);
+
+            throw new RateLimitException(retryAfterSeconds);
+        }
+    }
+
+    public Map<String, RateLimitProperties.Limit> limits() {
+        return properties.endpoints();
+    }
+
+    @Scheduled(fixedDelayString = "${budgee.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long idleBefore = System.nanoTime() - properties.idleTimeout().toNanos();
+        int before = buckets.size();
+
+        buckets.values().removeIf(bucket -> bucket.lastAccess() < idleBefore);
+
+        log.debug(
+                "[evictIdleBuckets] evicted={} remaining={}",
+                before - buckets.size(),
+                buckets.size());
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    static final class Bucket {
+        final int capacity;
+        final long nanosPerToken;
+        double tokens;
+        long lastRefill;
+        volatile long lastAccess;
+
+        Bucket(int capacity, long refillPeriodNanos) {
+            this.capacity = capacity;
+            this.nanosPerToken = Math.max(1, refillPeriodNanos / Math.max(1, capacity));
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+            this.lastAccess = lastRefill;
+        }
+
+        synchronized long tryAcquire(long now) {
+            lastAccess = now;
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / nanosPerToken);
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+
+            long waitNanos = (long) ((1 - tokens) * nanosPerToken);
+            return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        }
+
+        long lastAccess() {
+            return lastAccess;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.budgee.service.impl.auth;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.model.RevokedToken;
+import com.budgee.repository.RevokedTokenRepository;
+import com.budgee.util.BloomFilter;
+
+/**
+ * Revoked refresh-token ids. The {@code revoked_tokens} table is the source of truth; a Bloom
+ * filter in front of it answers the common "never revoked" case without a query. The filter is
+ * rebuilt in the background from unexpired rows and swapped in atomically; ids revoked shortly
+ * before or during the rebuild are added to the new filter again after the swap.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "REFRESH-TOKEN-REVOCATION")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RefreshTokenRevocationStore {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    RevokedTokenRepository revokedTokenRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    TransactionTemplate transactionTemplate;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.security.revocation.expected-insertions:1000000}")
+    long EXPECTED_INSERTIONS;
+
+    @NonFinal
+    @Value("${budgee.security.revocation.false-positive-rate:0.01}")
+    double FALSE_POSITIVE_RATE;
+
+    @NonFinal
+    @Value("${budgee.security.revocation.catch-up-slack-ms:60000}")
+    long CATCH_UP_SLACK_MS;
+
+    @NonFinal volatile BloomFilter filter;
+
+    // revocations that land while a rebuild is streaming rows are written here as well
+    @NonFinal volatile BloomFilter building;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void init() {
+        filter = BloomFilter.create(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        rebuild();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) return false;
+
+        return revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    /**
+     * Marks the token id as revoked. Returns {@code false} when it was already revoked, which for a
+     * rotating refresh token means the token is being replayed.
+     */
+    public boolean revoke(String tokenId, Instant expiresAt) {
+        log.info("[revoke] tokenId={}", tokenId);
+
+        try {
+            revokedTokenRepository.saveAndFlush(
+                    RevokedToken.builder().tokenId(tokenId).expiresAt(expiresAt).build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[revoke] token already revoked tokenId={}", tokenId);
+
+            return false;
+        } finally {
+            // building first: a rebuild that swaps in between then already has the id
+            BloomFilter next = building;
+            if (next != null) next.put(tokenId);
+
+            filter.put(tokenId);
+        }
+
+        return true;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${budgee.security.revocation.rebuild-interval-ms:600000}",
+            initialDelayString = "${budgee.security.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Instant now = Instant.now();
+
+        int purged =
+                transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now));
+
+        long active = revokedTokenRepository.countActive(now);
+        BloomFilter next =
+                BloomFilter.create(Math.max(EXPECTED_INSERTIONS, active * 2), FALSE_POSITIVE_RATE);
+        building = next;
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        try (Stream<String> tokenIds =
+                                revokedTokenRepository.streamActiveTokenIds(now)) {
+                            tokenIds.forEach(next::put);
+                        }
+                    });
+
+            filter = next;
+        } finally {
+            building = null;
+        }
+
+        // revocations committed after the snapshot may have gone only into the old filter
+        List<String> recent =
+                revokedTokenRepository.findTokenIdsRevokedSince(
+                        now.minusMillis(CATCH_UP_SLACK_MS));
+        recent.forEach(next::put);
+
+        log.info(
+                "[rebuild] active={} purged={} caughtUp={} bits={} elapsedMs={}",
+                active,
+                purged,
+                recent.size(),
+                next.bitSize(),
+                System.currentTimeMillis() - startedAt);
+    }
+}
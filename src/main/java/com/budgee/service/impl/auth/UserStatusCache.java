@@ -0,0 +1,102 @@
+package com.budgee.service.impl.auth;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.budgee.enums.UserStatus;
+import com.budgee.exception.AuthenticationException;
+import com.budgee.exception.ErrorCode;
+import com.budgee.repository.UserRepository;
+
+/**
+ * Bounded, expiring cache of {@link UserStatus} by user id. Used by claims-based authentication so
+ * account status checks do not need a {@code users} query on every request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "USER-STATUS-CACHE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UserStatusCache {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    UserRepository userRepository;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.security.user-status-cache.max-size:10000}")
+    int MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.security.user-status-cache.ttl-seconds:60}")
+    long TTL_SECONDS;
+
+    Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    public UserStatus getStatus(UUID userId) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now) return entry.status();
+
+        log.debug("[getStatus] cache miss userId={}", userId);
+
+        UserStatus status =
+                userRepository
+                        .findStatusById(userId)
+                        .orElseThrow(() -> new AuthenticationException(ErrorCode.USER_NOT_FOUND));
+
+        if (entries.size() >= MAX_SIZE) evict(now);
+        entries.put(userId, new Entry(status, now + TTL_SECONDS * 1000));
+
+        return status;
+    }
+
+    public void ensureIsActiveAccount(UUID userId) {
+        if (!UserStatus.ACTIVE.equals(getStatus(userId))) {
+            throw new AuthenticationException(ErrorCode.ACCOUNT_NOT_VERIFIED);
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        log.debug("[invalidate] userId={}", userId);
+
+        entries.remove(userId);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        // still full of live entries: drop an arbitrary tenth to make room
+        Iterator<UUID> iterator = entries.keySet().iterator();
+        int toRemove = entries.size() - (MAX_SIZE - MAX_SIZE / 10);
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    record Entry(UserStatus status, long expiresAt) {}
+}
@@ -0,0 +1,90 @@
+package com.budgee.service.impl.auth;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.repository.VerificationCodeRepository;
+
+/**
+ * Removes unverified codes past {@code expiresAt} and verified codes older than the retention
+ * window. Deletes run in bounded chunks, each in its own short transaction.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "VERIFICATION-CODE-PURGE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VerificationCodePurgeJob {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    VerificationCodeRepository verificationCodeRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    TransactionTemplate transactionTemplate;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.verification.purge.chunk-size:1000}")
+    int CHUNK_SIZE;
+
+    @NonFinal
+    @Value("${budgee.verification.purge.verified-retention-days:30}")
+    long VERIFIED_RETENTION_DAYS;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Scheduled(cron = "${budgee.verification.purge.cron:0 */15 * * * *}")
+    public void purge() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime verifiedBefore = now.minusDays(VERIFIED_RETENTION_DAYS);
+
+        long removed = 0;
+        int chunks = 0;
+        int deleted;
+
+        do {
+            deleted =
+                    transactionTemplate.execute(
+                            status -> {
+                                List<UUID> ids =
+                                        verificationCodeRepository.findPurgeableIds(
+                                                now, verifiedBefore, PageRequest.of(0, CHUNK_SIZE));
+                                if (!ids.isEmpty()) {
+                                    verificationCodeRepository.deleteAllByIdInBatch(ids);
+                                }
+
+                                return ids.size();
+                            });
+
+            removed += deleted;
+            chunks++;
+        } while (deleted == CHUNK_SIZE);
+
+        log.info(
+                "[purge] removed={} chunks={} elapsedMs={}",
+                removed,
+                chunks,
+                System.currentTimeMillis() - startedAt);
+    }
+}
@@ -8,9 +8,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 import jakarta.transaction.Transactional;
 
@@ -57,6 +59,8 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
 
     Clock clock = Clock.systemDefaultZone();
 
+    String SEND_RATE_LIMIT = "verification-send-email";
+
     // -------------------------------------------------------------------
     // LOOKUP
     // -------------------------------------------------------------------
@@ -77,6 +81,8 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
     // UTILITIES
     // -------------------------------------------------------------------
     CodeGenerator codeGenerator;
+    RateLimiter rateLimiter;
+    LiveVerificationCodeStore liveVerificationCodeStore;
 
     // -------------------------------------------------------------------
     // PUBLISHER
@@ -89,6 +95,7 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
         log.info("[getVerificationCode]={}", request);
 
         String email = request.email();
+        rateLimiter.check(SEND_RATE_LIMIT, normalizeEmail(email));
 
         User user = userLookup.getUserByEmail(email);
 
@@ -101,7 +108,9 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
         log.info("[sendCode] user={} type={} target={}", user.getId(), type, target);
 
         VerificationCode lastestVerificationCode =
-                verificationCodeRepository.findLastestVerificationCodeByUserAndType(user, type);
+                verificationCodeRepository
+                        .findTopByUserAndTypeOrderByCreatedAtDesc(user, type)
+                        .orElse(null);
 
         ensureVerificationCooldownRespected(lastestVerificationCode);
 
@@ -121,11 +130,14 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
                         .build();
 
         verificationCodeRepository.save(verificationCode);
+        liveVerificationCodeStore.remember(
+                user.getId(), type, verificationCode.getId(), code, expiresAt);
 
         eventPublisher.publishEvent(new VerificationCodeCreatedEvent(verificationCode.getId()));
     }
 
     @Override
+    @Transactional
     public TokenResponse verifyCode(VerificationRequest request) {
         log.info("[verifyCode] target={} type={}", request.email(), request.type());
 
@@ -133,22 +145,17 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
 
         User user = userLookup.getUserByEmail(email);
 
-        VerificationCode codeEntity =
-                verificationCodeRepository
-                        .findTopByUserAndTypeAndCodeOrderByCreatedAtDesc(
-                                user, request.type(), request.code())
-                        .orElseThrow(() -> new ValidationException(null));
-
-        if (codeEntity.getExpiresAt().isBefore(LocalDateTime.now(clock))) {
-            throw new ValidationException(ErrorCode.VERIFICATION_CODE_EXPIRED);
-        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        UUID codeId =
+                liveVerificationCodeStore
+                        .find(user.getId(), request.type())
+                        .map(liveCode -> checkLiveCode(liveCode, request.code(), now))
+                        .orElseGet(() -> checkStoredCode(user, request, now));
 
-        if (codeEntity.isVerified()) {
+        if (verificationCodeRepository.markVerified(codeId, now, Instant.now()) == 0) {
             throw new ValidationException(ErrorCode.VERIFICATION_CODE_ALREADY_USED);
         }
-
-        codeEntity.setVerified(true);
-        verificationCodeRepository.save(codeEntity);
+        liveVerificationCodeStore.forget(user.getId(), request.type());
 
         switch (request.type()) {
             case VerificationType.REGISTER -> {
@@ -171,6 +178,7 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
         log.info("[resendCode]={}", request);
 
         String email = request.email();
+        rateLimiter.check(SEND_RATE_LIMIT, normalizeEmail(email));
         User user = userLookup.getUserByEmail(email);
 
         sendCode(user, request.type(), email);
@@ -181,11 +189,49 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
         log.info("[isVerified] userId={} type={}", user.getId(), type);
 
         Optional<VerificationCode> latest =
-                verificationCodeRepository.findLatestByUserAndType(user, type).stream().findFirst();
+                verificationCodeRepository.findTopByUserAndTypeOrderByCreatedAtDesc(user, type);
 
         return latest.map(VerificationCode::isVerified).orElse(false);
     }
 
+    UUID checkLiveCode(
+            LiveVerificationCodeStore.LiveCode liveCode, String code, LocalDateTime now) {
+        log.debug("[checkLiveCode] codeId={}", liveCode.id());
+
+        if (!liveCode.matches(code)) {
+            throw new ValidationException(ErrorCode.VERIFICATION_CODE_NOT_MATCH);
+        }
+
+        if (liveCode.expiresAt().isBefore(now)) {
+            throw new ValidationException(ErrorCode.VERIFICATION_CODE_EXPIRED);
+        }
+
+        return liveCode.id();
+    }
+
+    UUID checkStoredCode(User user, VerificationRequest request, LocalDateTime now) {
+        log.debug("[checkStoredCode] userId={}", user.getId());
+
+        VerificationCode codeEntity =
+                verificationCodeRepository
+                        .findTopByUserAndTypeAndCodeOrderByCreatedAtDesc(
+                                user, request.type(), request.code())
+                        .orElseThrow(
+                                () ->
+                                        new ValidationException(
+                                                ErrorCode.VERIFICATION_CODE_NOT_MATCH));
+
+        if (codeEntity.getExpiresAt().isBefore(now)) {
+            throw new ValidationException(ErrorCode.VERIFICATION_CODE_EXPIRED);
+        }
+
+        if (codeEntity.isVerified()) {
+            throw new ValidationException(ErrorCode.VERIFICATION_CODE_ALREADY_USED);
+        }
+
+        return codeEntity.getId();
+    }
+
     void ensureVerificationCooldownRespected(VerificationCode verificationCode) {
         log.info("[ensureVerificationCooldownRespected]");
 
@@ -206,6 +252,10 @@ public class VerificationCodeServiceImpl implements VerificationCodeService {
         }
     }
 
+    String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase();
+    }
+
     TokenResponse getTokenResponse(User user) {
         log.info("[getTokenResponse] userId={}", user.getId());
 
@@ -0,0 +1,143 @@
+package com.budgee.service.impl.auth;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.budgee.enums.TokenType;
+
+/**
+ * Bounded cache of already verified token claims, keyed by a SHA-256 of the token so raw tokens
+ * are never held in memory. An entry lives until the token's {@code exp} or until the signing keys
+ * are reloaded, whichever comes first.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "VERIFIED-TOKEN-CACHE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VerifiedTokenCache {
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JwtKeyRegistry jwtKeyRegistry;
+    MeterRegistry meterRegistry;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.security.token-cache.enabled:true}")
+    boolean ENABLED;
+
+    @NonFinal
+    @Value("${budgee.security.token-cache.max-size:50000}")
+    int MAX_SIZE;
+
+    Map<String, Entry> entries = new ConcurrentHashMap<>();
+    LongAdder hits = new LongAdder();
+    LongAdder misses = new LongAdder();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("budgee.jwt.cache.size", entries, Map::size).register(meterRegistry);
+        FunctionCounter.builder("budgee.jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("budgee.jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached claims for the token, or verifies it with {@code verifier} and caches the
+     * result. Verification failures are not cached.
+     */
+    public Claims getOrVerify(TokenType type, String token, Supplier<Claims> verifier) {
+        if (!ENABLED) return verifier.get();
+
+        long now = System.currentTimeMillis();
+        long keyVersion = jwtKeyRegistry.keyVersion();
+        String key = hash(type, token);
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now && entry.keyVersion() == keyVersion) {
+            hits.increment();
+            return entry.claims();
+        }
+
+        misses.increment();
+        if (entry != null) entries.remove(key);
+
+        Claims claims = verifier.get();
+
+        if (claims.getExpiration() != null) {
+            if (entries.size() >= MAX_SIZE) evict(now);
+            entries.put(key, new Entry(claims, claims.getExpiration().getTime(), keyVersion));
+        }
+
+        return claims;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    String hash(TokenType type, String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((byte) type.ordinal());
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        // still full of live entries: drop an arbitrary tenth to make room
+        Iterator<String> iterator = entries.keySet().iterator();
+        int toRemove = entries.size() - (MAX_SIZE - MAX_SIZE / 10);
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    record Entry(Claims claims, long expiresAt, long keyVersion) {}
+}
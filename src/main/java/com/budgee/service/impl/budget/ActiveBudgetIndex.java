@@ -0,0 +1,103 @@
+package com.budgee.service.impl.budget;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.budgee.repository.BudgetRepository;
+import com.budgee.repository.projection.BudgetWindow;
+
+/**
+ * Per-user list of budgets that have not ended yet, so matching a transaction dated today or
+ * later against budgets is a scan of a few in-memory windows instead of a query. Entries hold no
+ * amounts and expire after a TTL or when the day changes; budget writers call {@link #invalidate}
+ * or {@link #clear}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "ACTIVE-BUDGET-INDEX")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ActiveBudgetIndex {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    BudgetRepository budgetRepository;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.budget.index.max-size:10000}")
+    int MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.budget.index.ttl-seconds:300}")
+    long TTL_SECONDS;
+
+    Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    /** Budgets of the user whose end date is on or after {@code today}. */
+    public List<BudgetWindow> get(UUID userId, LocalDate today) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now && entry.loadedFor().equals(today)) {
+            return entry.windows();
+        }
+
+        log.debug("[get] index miss userId={}", userId);
+
+        List<BudgetWindow> windows = budgetRepository.findActiveWindows(userId, today);
+
+        if (entries.size() >= MAX_SIZE) evict(now);
+        entries.put(userId, new Entry(windows, today, now + TTL_SECONDS * 1000));
+
+        return windows;
+    }
+
+    public void invalidate(UUID userId) {
+        log.debug("[invalidate] userId={}", userId);
+
+        entries.remove(userId);
+    }
+
+    public void clear() {
+        log.debug("[clear] entries={}", entries.size());
+
+        entries.clear();
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        Iterator<UUID> iterator = entries.keySet().iterator();
+        int toRemove = entries.size() - (MAX_SIZE - MAX_SIZE / 10);
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    record Entry(List<BudgetWindow> windows, LocalDate loadedFor, long expiresAt) {}
+}
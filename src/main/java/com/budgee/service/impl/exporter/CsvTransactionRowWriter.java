@@ -0,0 +1,70 @@
+package com.budgee.service.impl.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/** RFC 4180 CSV: fields holding a comma, quote or line break are quoted, quotes are doubled. */
+public class CsvTransactionRowWriter implements TransactionRowWriter {
+
+    private static final String HEADER = "id,date,time,type,amount,currency,wallet,category,note";
+
+    private final Writer out;
+
+    public CsvTransactionRowWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(HEADER);
+        out.write("\r\n");
+    }
+
+    @Override
+    public void write(ExportedRow row) throws IOException {
+        out.write(row.id().toString());
+        out.write(',');
+        out.write(row.date().toString());
+        out.write(',');
+        out.write(row.time() == null ? "" : row.time().toString());
+        out.write(',');
+        out.write(row.type());
+        out.write(',');
+        out.write(row.amount().toPlainString());
+        out.write(',');
+        field(row.currency());
+        out.write(',');
+        field(row.wallet());
+        out.write(',');
+        field(row.category());
+        out.write(',');
+        field(row.note());
+        out.write("\r\n");
+    }
+
+    private void field(String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+
+        if (!needsQuotes(value)) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.budgee.service.impl.exporter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/** One exported transaction, with wallet and category resolved to their names. */
+public record ExportedRow(
+        UUID id,
+        LocalDate date,
+        LocalTime time,
+        String type,
+        BigDecimal amount,
+        String currency,
+        String wallet,
+        String category,
+        String note) {}
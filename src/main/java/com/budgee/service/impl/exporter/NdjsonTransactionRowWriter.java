@@ -0,0 +1,39 @@
+package com.budgee.service.impl.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.google.gson.stream.JsonWriter;
+
+/** One JSON object per line. Fields are written by hand, so no reflection runs per row. */
+public class NdjsonTransactionRowWriter implements TransactionRowWriter {
+
+    private final Writer out;
+
+    public NdjsonTransactionRowWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON has no header
+    }
+
+    @Override
+    public void write(ExportedRow row) throws IOException {
+        // JsonWriter does not buffer, and it is not closed so the shared writer stays open
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        json.name("id").value(row.id().toString());
+        json.name("date").value(row.date().toString());
+        json.name("time").value(row.time() == null ? null : row.time().toString());
+        json.name("type").value(row.type());
+        json.name("amount").value(row.amount());
+        json.name("currency").value(row.currency());
+        json.name("wallet").value(row.wallet());
+        json.name("category").value(row.category());
+        json.name("note").value(row.note());
+        json.endObject();
+        out.write('\n');
+    }
+}
@@ -0,0 +1,14 @@
+package com.budgee.service.impl.exporter;
+
+import java.io.IOException;
+
+/**
+ * Serializes exported rows straight to the underlying writer. Implementations keep no state per
+ * row, so memory use does not depend on the number of rows written.
+ */
+public interface TransactionRowWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(ExportedRow row) throws IOException;
+}
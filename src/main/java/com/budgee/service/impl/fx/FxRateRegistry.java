@@ -0,0 +1,120 @@
+package com.budgee.service.impl.fx;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.budgee.enums.Currency;
+import com.budgee.model.FxRate;
+import com.budgee.repository.FxRateRepository;
+
+/**
+ * Serves the current {@link FxRateSnapshot}. Rates come from the {@code fx_rates} table; when
+ * {@code budgee.fx.rates-file} is set, its entries override the table:
+ *
+ * <pre>
+ * USD=25400
+ * EUR=27500.5
+ * </pre>
+ *
+ * A reload builds a new snapshot and publishes it with one volatile write, so readers never lock
+ * and never see a half-loaded set. A failed reload keeps the previous snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "FX-RATE-REGISTRY")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class FxRateRegistry {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    FxRateRepository fxRateRepository;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.fx.base-currency:VND}")
+    Currency BASE_CURRENCY;
+
+    @NonFinal
+    @Value("${budgee.fx.rates-file:}")
+    String RATES_FILE;
+
+    @NonFinal volatile FxRateSnapshot snapshot;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void init() {
+        snapshot = new FxRateSnapshot(BASE_CURRENCY, Map.of(), Instant.now());
+        reload();
+    }
+
+    public FxRateSnapshot current() {
+        return snapshot;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${budgee.fx.reload-interval-ms:300000}",
+            initialDelayString = "${budgee.fx.reload-interval-ms:300000}")
+    public void reload() {
+        try {
+            Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+            for (FxRate rate : fxRateRepository.findAll()) {
+                if (rate.getRate().signum() > 0) rates.put(rate.getCurrency(), rate.getRate());
+            }
+            if (StringUtils.hasText(RATES_FILE)) loadRatesFile(rates);
+
+            snapshot = new FxRateSnapshot(BASE_CURRENCY, rates, Instant.now());
+            log.info("[reload] base={} rates={}", BASE_CURRENCY, rates.keySet());
+        } catch (Exception e) {
+            log.error("[reload] keeping previous rates: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void loadRatesFile(Map<Currency, BigDecimal> rates) {
+        Properties properties = new Properties();
+
+        try (InputStream in = Files.newInputStream(Path.of(RATES_FILE))) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read FX rates file " + RATES_FILE, e);
+        }
+
+        for (String code : properties.stringPropertyNames()) {
+            BigDecimal rate = new BigDecimal(properties.getProperty(code).trim());
+            if (rate.signum() <= 0) {
+                throw new IllegalStateException("FX rate for " + code + " must be positive");
+            }
+
+            rates.put(Currency.valueOf(code.trim().toUpperCase(Locale.ROOT)), rate);
+        }
+    }
+}
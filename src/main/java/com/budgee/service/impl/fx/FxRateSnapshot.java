@@ -0,0 +1,61 @@
+package com.budgee.service.impl.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+
+import com.budgee.enums.Currency;
+import com.budgee.exception.BusinessException;
+import com.budgee.exception.ErrorCode;
+
+/**
+ * Immutable set of exchange rates, each the value of one unit of a currency in {@code base}.
+ * Rates are kept in an array indexed by {@link Currency#ordinal()}; a snapshot is never changed
+ * after construction, so it can be shared by any number of readers.
+ */
+public final class FxRateSnapshot {
+
+    static MathContext PRECISION = MathContext.DECIMAL64;
+
+    final Currency base;
+    final BigDecimal[] rates;
+    final Instant loadedAt;
+
+    public FxRateSnapshot(Currency base, Map<Currency, BigDecimal> rates, Instant loadedAt) {
+        this.base = base;
+        this.rates = new BigDecimal[Currency.values().length];
+        this.loadedAt = loadedAt;
+
+        rates.forEach((currency, rate) -> this.rates[currency.ordinal()] = rate);
+        this.rates[base.ordinal()] = BigDecimal.ONE;
+    }
+
+    public Currency base() {
+        return base;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /** Converts {@code amount} to {@code to}, rounded to the two decimals balances are kept in. */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        if (from == to) return amount;
+
+        BigDecimal inBase = amount.multiply(rate(from), PRECISION);
+
+        return inBase.divide(rate(to), 2, RoundingMode.HALF_EVEN);
+    }
+
+    BigDecimal rate(Currency currency) {
+        BigDecimal rate = rates[currency.ordinal()];
+        if (rate == null) {
+            throw new BusinessException(
+                    ErrorCode.FX_RATE_NOT_AVAILABLE, "No exchange rate for " + currency.getCode());
+        }
+
+        return rate;
+    }
+}
@@ -0,0 +1,97 @@
+package com.budgee.service.impl.goal;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.budgee.repository.GoalRepository;
+import com.budgee.repository.projection.GoalLink;
+
+/**
+ * Per-user wallet/category links of goals that have not ended yet, so a transaction dated today or
+ * later is matched against goals without a query; a user with no open goals caches an empty
+ * list. Entries expire after a TTL or when the day changes, and are invalidated after a goal or
+ * one of its linked wallets or categories changes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "ACTIVE-GOAL-INDEX")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ActiveGoalIndex {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    GoalRepository goalRepository;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.goal.index.max-size:10000}")
+    int MAX_SIZE;
+
+    @NonFinal
+    @Value("${budgee.goal.index.ttl-seconds:300}")
+    long TTL_SECONDS;
+
+    Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    /** Links of the user's goals whose end date is open or on or after {@code today}. */
+    public List<GoalLink> get(UUID userId, LocalDate today) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now && entry.loadedFor().equals(today)) {
+            return entry.links();
+        }
+
+        log.debug("[get] index miss userId={}", userId);
+
+        List<GoalLink> links = goalRepository.findLinksByUserId(userId, today);
+
+        if (entries.size() >= MAX_SIZE) evict(now);
+        entries.put(userId, new Entry(links, today, now + TTL_SECONDS * 1000));
+
+        return links;
+    }
+
+    public void invalidate(UUID userId) {
+        log.debug("[invalidate] userId={}", userId);
+
+        entries.remove(userId);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        Iterator<UUID> iterator = entries.keySet().iterator();
+        int toRemove = entries.size() - (MAX_SIZE - MAX_SIZE / 10);
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    record Entry(List<GoalLink> links, LocalDate loadedFor, long expiresAt) {}
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import com.budgee.model.GroupMember;
 import com.budgee.model.GroupTransaction;
 import com.budgee.payload.response.group.GroupMemberResponse;
+import com.budgee.util.MoneyAccumulator;
 
 @Service
 @RequiredArgsConstructor
@@ -24,16 +25,15 @@ public class GroupMemberSummaryService {
             GroupMember member, boolean isCreator, List<GroupTransaction> transactions) {
         log.info("[calculateGroupMemberSummary] memberId={}", member.getId());
 
-        BigDecimal totalSponsorship =
-                transactions.stream()
-                        .filter(GroupTransaction::isMemberSponsorSource)
-                        .map(GroupTransaction::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalAdvanceAmount =
-                transactions.stream()
-                        .filter(GroupTransaction::isMemberAdvanceSource)
-                        .map(GroupTransaction::getAmount)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+        MoneyAccumulator sponsorship = new MoneyAccumulator();
+        MoneyAccumulator advance = new MoneyAccumulator();
+        for (GroupTransaction tx : transactions) {
+            if (tx.isMemberSponsorSource()) sponsorship.add(tx.getAmount());
+            if (tx.isMemberAdvanceSource()) advance.add(tx.getAmount());
+        }
+
+        BigDecimal totalSponsorship = sponsorship.toBigDecimal();
+        BigDecimal totalAdvanceAmount = advance.toBigDecimal();
 
         log.info(
                 "[calculateGroupMemberSummary] member={} isCreator={} sponsorship={} advance={}",
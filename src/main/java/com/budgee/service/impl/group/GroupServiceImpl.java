@@ -6,6 +6,7 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -144,13 +145,16 @@ public class GroupServiceImpl implements GroupService {
     List<GroupResponse> toListGroupResponse(List<Group> groups) {
         log.info("[toListGroupResponse]");
 
+        // one aggregate query for all groups instead of loading each group's transactions
+        Map<UUID, GroupSummary> summaries =
+                groupSummaryService.calculateGroupSummaries(
+                        groups.stream().map(Group::getId).toList());
+
         return groups.stream()
                 .map(
-                        group -> {
-                            GroupSummary summary = groupSummaryService.calculateGroupSummary(group);
-
-                            return groupMapper.toGroupResponse(group, summary, null);
-                        })
+                        group ->
+                                groupMapper.toGroupResponse(
+                                        group, summaries.get(group.getId()), null))
                 .toList();
     }
 
@@ -6,17 +6,20 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
-import com.budgee.enums.GroupExpenseSource;
-import com.budgee.enums.TransactionType;
 import com.budgee.model.Group;
-import com.budgee.model.GroupTransaction;
 import com.budgee.payload.response.group.GroupSummary;
 import com.budgee.repository.GroupTransactionRepository;
+import com.budgee.repository.projection.GroupTotals;
+import com.budgee.util.Money;
+import com.budgee.util.MoneyAccumulator;
 
 @Service
 @RequiredArgsConstructor
@@ -36,94 +39,88 @@ public class GroupSummaryService {
     public GroupSummary calculateGroupSummary(Group group) {
         log.info("[calculateGroupSummary] groupId={}", group.getId());
 
-        List<GroupTransaction> transactions = groupTransactionRepository.findAllByGroup(group);
+        Totals totals = totalsOf(group.getId());
 
-        BigDecimal totalIncome = calculateTotalIncome(transactions);
-        BigDecimal totalExpense = calculateTotalExpense(transactions);
-        BigDecimal totalSponsorship = calculateTotalSponsorship(transactions);
+        return toGroupSummary(totals);
+    }
 
-        BigDecimal balance =
-                totalIncome.add(totalSponsorship).subtract(totalExpense).max(BigDecimal.ZERO);
+    /**
+     * Summaries for many groups from a single aggregate query, keyed by group id. Every requested
+     * group has an entry; one without transactions gets an all-zero summary.
+     */
+    public Map<UUID, GroupSummary> calculateGroupSummaries(Collection<UUID> groupIds) {
+        log.info("[calculateGroupSummaries] groups={}", groupIds.size());
 
-        return GroupSummary.builder()
-                .balance(balance)
-                .totalIncome(totalIncome)
-                .totalExpense(totalExpense)
-                .totalSponsorship(totalSponsorship)
-                .build();
+        if (groupIds.isEmpty()) return Map.of();
+
+        Map<UUID, GroupSummary> summaries = new HashMap<>();
+        for (GroupTotals row : groupTransactionRepository.sumTotalsByGroupIds(groupIds)) {
+            summaries.put(row.groupId(), toGroupSummary(Totals.of(row)));
+        }
+
+        for (UUID groupId : groupIds) {
+            summaries.computeIfAbsent(groupId, id -> toGroupSummary(new Totals()));
+        }
+
+        return summaries;
     }
 
     public BigDecimal calculateNetExpense(Group group) {
         log.info("[calculateNetExpense] groupId={}", group.getId());
 
-        List<GroupTransaction> transactions = groupTransactionRepository.findAllByGroup(group);
-
-        BigDecimal expense = calculateTotalExpense(transactions);
-        BigDecimal sponsorship = calculateTotalSponsorship(transactions);
+        Totals totals = totalsOf(group.getId());
 
-        return expense.subtract(sponsorship);
+        return totals.expense.toMoney().minus(totals.sponsorship.toMoney()).toBigDecimal();
     }
 
     public BigDecimal calculateAdvancePayment(Group group) {
         log.info("[calculateAdvancePayment] groupId={}", group.getId());
 
-        List<GroupTransaction> transactions = groupTransactionRepository.findAllByGroup(group);
+        Totals totals = totalsOf(group.getId());
 
-        return calculateAdvancePaymentFromMember(transactions);
+        return totals.advance.toBigDecimal();
     }
 
     // -------------------------------------------------------------------
     // PRIVATE FUNCTION
     // -------------------------------------------------------------------
 
-    BigDecimal calculateAdvancePaymentFromMember(List<GroupTransaction> transactions) {
-        log.info("[calculateAdvancePaymentFromMember]");
-
-        return transactions.stream()
-                .filter(this::isAdvancePaymentFromMember)
-                .map(GroupTransaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    BigDecimal calculateTotalSponsorship(List<GroupTransaction> transactions) {
-        log.info("[calculateTotalSponsorship]");
-
-        return transactions.stream()
-                .filter(this::isSponsorshipTransaction)
-                .map(GroupTransaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
+    GroupSummary toGroupSummary(Totals totals) {
+        Money totalIncome = totals.income.toMoney();
+        Money totalExpense = totals.expense.toMoney();
+        Money totalSponsorship = totals.sponsorship.toMoney();
 
-    BigDecimal calculateTotalIncome(List<GroupTransaction> transactions) {
-        log.info("[calculateTotalIncome]");
-
-        return transactions.stream()
-                .filter(x -> TransactionType.INCOME.equals(x.getType()))
-                .map(GroupTransaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
+        Money balance = totalIncome.plus(totalSponsorship).minus(totalExpense).max(Money.ZERO);
 
-    BigDecimal calculateTotalExpense(List<GroupTransaction> transactions) {
-        log.info("[calculateTotalExpense]");
-
-        return transactions.stream()
-                .filter(x -> TransactionType.EXPENSE.equals(x.getType()))
-                .map(GroupTransaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return GroupSummary.builder()
+                .balance(balance.toBigDecimal())
+                .totalIncome(totalIncome.toBigDecimal())
+                .totalExpense(totalExpense.toBigDecimal())
+                .totalSponsorship(totalSponsorship.toBigDecimal())
+                .build();
     }
 
-    boolean isAdvancePaymentFromMember(GroupTransaction transaction) {
-        log.info("[isAdvancePaymentFromMember]");
+    /** The group's totals from the aggregate query, without loading its transactions. */
+    Totals totalsOf(UUID groupId) {
+        List<GroupTotals> rows = groupTransactionRepository.sumTotalsByGroupIds(List.of(groupId));
 
-        return Objects.equals(
-                GroupExpenseSource.MEMBER_ADVANCE, transaction.getGroupExpenseSource());
+        return rows.isEmpty() ? new Totals() : Totals.of(rows.get(0));
     }
 
-    boolean isSponsorshipTransaction(GroupTransaction tx) {
-        log.info("[isSponsorshipTransaction]");
-
-        return (tx.getType() == TransactionType.EXPENSE
-                        && tx.getGroupExpenseSource() == GroupExpenseSource.MEMBER_SPONSOR)
-                || tx.getType() == TransactionType.CONTRIBUTE;
+    static class Totals {
+        final MoneyAccumulator income = new MoneyAccumulator();
+        final MoneyAccumulator expense = new MoneyAccumulator();
+        final MoneyAccumulator sponsorship = new MoneyAccumulator();
+        final MoneyAccumulator advance = new MoneyAccumulator();
+
+        static Totals of(GroupTotals row) {
+            Totals totals = new Totals();
+            totals.income.add(row.income());
+            totals.expense.add(row.expense());
+            totals.sponsorship.add(row.sponsorship());
+            totals.advance.add(row.advance());
+
+            return totals;
+        }
     }
 }
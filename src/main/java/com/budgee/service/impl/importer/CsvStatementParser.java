@@ -0,0 +1,129 @@
+package com.budgee.service.impl.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.budgee.enums.TransactionType;
+
+/**
+ * Line-oriented CSV parser. The first line is a header naming the columns; {@code date} and
+ * {@code amount} are required, {@code time}, {@code type}, {@code category} and {@code note} (or
+ * {@code description}/{@code memo}) are optional. Quoted fields may contain commas and doubled
+ * quotes but not line breaks.
+ */
+public class CsvStatementParser implements StatementParser {
+
+    final BufferedReader reader;
+    final Map<String, Integer> columns = new HashMap<>();
+    long lineNumber;
+
+    public CsvStatementParser(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public ImportedRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) return null;
+            lineNumber++;
+        } while (line.isBlank());
+
+        List<String> fields = split(line);
+
+        BigDecimal signedAmount = StatementValues.parseAmount(lineNumber, field(fields, "amount"));
+        TransactionType type =
+                StatementValues.resolveType(lineNumber, field(fields, "type"), signedAmount);
+
+        return new ImportedRow(
+                lineNumber,
+                StatementValues.parseDate(lineNumber, field(fields, "date")),
+                parseTime(field(fields, "time")),
+                signedAmount.abs(),
+                type,
+                StatementValues.blankToNull(field(fields, "category")),
+                StatementValues.blankToNull(field(fields, "note")));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) throw new StatementRowException(lineNumber, "missing header");
+
+        // tolerate a UTF-8 byte order mark written by spreadsheet exports
+        if (header.startsWith("\uFEFF")) header = header.substring(1);
+
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (name.equals("description") || name.equals("memo")) name = "note";
+            columns.putIfAbsent(name, i);
+        }
+
+        if (!columns.containsKey("date") || !columns.containsKey("amount")) {
+            throw new StatementRowException(lineNumber, "header must contain date and amount");
+        }
+    }
+
+    String field(List<String> fields, String name) {
+        Integer index = columns.get(name);
+
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    LocalTime parseTime(String value) {
+        if (value == null || value.isBlank()) return LocalTime.MIDNIGHT;
+
+        try {
+            return LocalTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new StatementRowException(lineNumber, "invalid time: " + value);
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+
+        return fields;
+    }
+}
@@ -0,0 +1,68 @@
+package com.budgee.service.impl.importer;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.budgee.enums.ImportStatus;
+import com.budgee.payload.response.ImportProgressResponse;
+
+/** Live counters of one running import, updated by the importing thread and read by pollers. */
+@Getter
+public class ImportProgress {
+
+    static final int MAX_ERRORS = 20;
+
+    final UUID importId;
+    final UUID userId;
+    final Instant startedAt = Instant.now();
+    final AtomicLong rowsRead = new AtomicLong();
+    final AtomicLong rowsImported = new AtomicLong();
+    final AtomicLong rowsRejected = new AtomicLong();
+    final List<String> errors = new CopyOnWriteArrayList<>();
+
+    // every row up to this statement line is committed; a retry resumes after it
+    volatile long committedThroughLine;
+
+    volatile ImportStatus status = ImportStatus.RUNNING;
+    volatile Instant finishedAt;
+
+    public ImportProgress(UUID importId, UUID userId) {
+        this.importId = importId;
+        this.userId = userId;
+    }
+
+    public void rejected(long lineNumber, String reason) {
+        rowsRejected.incrementAndGet();
+        if (errors.size() < MAX_ERRORS) errors.add("line " + lineNumber + ": " + reason);
+    }
+
+    public void committed(int rows, long lastLine) {
+        rowsImported.addAndGet(rows);
+        committedThroughLine = lastLine;
+    }
+
+    public void finish(ImportStatus finalStatus, String reason) {
+        if (reason != null && errors.size() < MAX_ERRORS) errors.add(reason);
+        status = finalStatus;
+        finishedAt = Instant.now();
+    }
+
+    public ImportProgressResponse toResponse() {
+        return ImportProgressResponse.builder()
+                .importId(importId)
+                .status(status)
+                .rowsRead(rowsRead.get())
+                .rowsImported(rowsImported.get())
+                .rowsRejected(rowsRejected.get())
+                .committedThroughLine(committedThroughLine)
+                .errors(List.copyOf(errors))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
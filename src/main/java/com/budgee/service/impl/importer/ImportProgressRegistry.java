@@ -0,0 +1,54 @@
+package com.budgee.service.impl.importer;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.budgee.exception.BusinessException;
+import com.budgee.exception.ErrorCode;
+
+/** Progress of running and recently finished imports, kept for an hour after they finish. */
+@Component
+@Slf4j(topic = "IMPORT-PROGRESS-REGISTRY")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ImportProgressRegistry {
+
+    Duration RETENTION = Duration.ofHours(1);
+
+    Map<UUID, ImportProgress> imports = new ConcurrentHashMap<>();
+
+    public ImportProgress start(UUID importId, UUID userId) {
+        ImportProgress progress = new ImportProgress(importId, userId);
+
+        if (imports.putIfAbsent(importId, progress) != null) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Import id already in use");
+        }
+
+        return progress;
+    }
+
+    public Optional<ImportProgress> find(UUID importId) {
+        return Optional.ofNullable(imports.get(importId));
+    }
+
+    @Scheduled(fixedDelay = 600_000)
+    public void evictFinished() {
+        Instant cutoff = Instant.now().minus(RETENTION);
+
+        imports.values()
+                .removeIf(
+                        progress ->
+                                progress.getFinishedAt() != null
+                                        && progress.getFinishedAt().isBefore(cutoff));
+    }
+}
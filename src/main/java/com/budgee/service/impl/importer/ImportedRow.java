@@ -0,0 +1,17 @@
+package com.budgee.service.impl.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.budgee.enums.TransactionType;
+
+/** One statement line, already normalized: {@code amount} is positive and {@code type} set. */
+public record ImportedRow(
+        long lineNumber,
+        LocalDate date,
+        LocalTime time,
+        BigDecimal amount,
+        TransactionType type,
+        String category,
+        String note) {}
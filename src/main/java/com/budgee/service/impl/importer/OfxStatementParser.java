@@ -0,0 +1,156 @@
+package com.budgee.service.impl.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Locale;
+
+import com.budgee.enums.TransactionType;
+
+/**
+ * Minimal OFX parser for {@code <STMTTRN>} records. Handles both SGML (OFX 1.x, unclosed leaf
+ * tags) and XML (OFX 2.x) by tokenizing the character stream into tags and text, so line breaks
+ * do not matter and a whole file may be a single line. Only {@code TRNTYPE}, {@code DTPOSTED},
+ * {@code TRNAMT}, {@code NAME} and {@code MEMO} are used. Rows are numbered by record, not by
+ * line.
+ */
+public class OfxStatementParser implements StatementParser {
+
+    static final int MAX_TOKEN_LENGTH = 64 * 1024;
+
+    final BufferedReader reader;
+    final StringBuilder token = new StringBuilder();
+    long recordNumber;
+    String pending;
+
+    // a '<' read while scanning text, carried over to the next tag
+    boolean tagStarted;
+
+    public OfxStatementParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedRow next() throws IOException {
+        String tag;
+        while ((tag = nextTag()) != null && !tag.equalsIgnoreCase("<STMTTRN>")) {
+            // skip headers and everything outside transaction records
+        }
+        if (tag == null) return null;
+
+        long start = ++recordNumber;
+        String trnType = null;
+        String posted = null;
+        String amount = null;
+        String name = null;
+        String memo = null;
+
+        while ((tag = nextTag()) != null && !tag.equalsIgnoreCase("</STMTTRN>")) {
+            String value = pending;
+            pending = null;
+
+            switch (tag.toUpperCase(Locale.ROOT)) {
+                case "<TRNTYPE>" -> trnType = value;
+                case "<DTPOSTED>" -> posted = value;
+                case "<TRNAMT>" -> amount = value;
+                case "<NAME>" -> name = value;
+                case "<MEMO>" -> memo = value;
+                default -> {}
+            }
+        }
+
+        BigDecimal signedAmount = StatementValues.parseAmount(start, amount);
+        TransactionType type =
+                "CREDIT".equalsIgnoreCase(trnType) || "DEP".equalsIgnoreCase(trnType)
+                        ? TransactionType.INCOME
+                        : StatementValues.resolveType(start, null, signedAmount);
+
+        String note = StatementValues.blankToNull(name);
+        if (StatementValues.blankToNull(memo) != null) {
+            note = note == null ? memo.trim() : note + " - " + memo.trim();
+        }
+
+        return new ImportedRow(
+                start,
+                parsePostedDate(start, posted),
+                parsePostedTime(posted),
+                signedAmount.abs(),
+                type,
+                null,
+                note);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the next tag and leaves the text that follows it, up to the next tag, in {@code
+     * pending}. Text before the first tag, such as the SGML header, is skipped.
+     */
+    String nextTag() throws IOException {
+        int c;
+        if (!tagStarted) {
+            while ((c = reader.read()) != -1 && c != '<') {
+                // skip text outside tags
+            }
+            if (c == -1) return null;
+        }
+        tagStarted = false;
+
+        token.setLength(0);
+        token.append('<');
+        while ((c = reader.read()) != -1 && c != '>') {
+            append(c);
+        }
+        if (c == -1) return null;
+        String tag = token.append('>').toString().trim();
+
+        token.setLength(0);
+        while ((c = reader.read()) != -1 && c != '<') {
+            append(c);
+        }
+        tagStarted = c == '<';
+        pending = token.toString().trim();
+
+        return tag;
+    }
+
+    void append(int c) throws IOException {
+        if (token.length() == MAX_TOKEN_LENGTH) {
+            throw new IOException("OFX token longer than " + MAX_TOKEN_LENGTH + " characters");
+        }
+
+        token.append((char) c);
+    }
+
+    LocalDate parsePostedDate(long line, String posted) {
+        String value = StatementValues.required(line, "DTPOSTED", posted);
+        if (value.length() < 8) throw new StatementRowException(line, "invalid DTPOSTED: " + value);
+
+        try {
+            return LocalDate.of(
+                    Integer.parseInt(value.substring(0, 4)),
+                    Integer.parseInt(value.substring(4, 6)),
+                    Integer.parseInt(value.substring(6, 8)));
+        } catch (RuntimeException e) {
+            throw new StatementRowException(line, "invalid DTPOSTED: " + value);
+        }
+    }
+
+    LocalTime parsePostedTime(String posted) {
+        if (posted == null || posted.length() < 14) return LocalTime.MIDNIGHT;
+
+        try {
+            return LocalTime.of(
+                    Integer.parseInt(posted.substring(8, 10)),
+                    Integer.parseInt(posted.substring(10, 12)),
+                    Integer.parseInt(posted.substring(12, 14)));
+        } catch (RuntimeException e) {
+            return LocalTime.MIDNIGHT;
+        }
+    }
+}
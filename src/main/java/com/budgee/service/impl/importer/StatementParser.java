@@ -0,0 +1,17 @@
+package com.budgee.service.impl.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull parser over a bank statement. Implementations read the underlying stream incrementally and
+ * never hold more than the current record in memory.
+ */
+public interface StatementParser extends Closeable {
+
+    /**
+     * Returns the next row, or {@code null} at the end of the statement. A malformed record throws
+     * {@link StatementRowException}; the parser stays positioned after it, so callers may continue.
+     */
+    ImportedRow next() throws IOException;
+}
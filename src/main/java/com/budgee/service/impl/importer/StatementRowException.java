@@ -0,0 +1,13 @@
+package com.budgee.service.impl.importer;
+
+import lombok.Getter;
+
+@Getter
+public class StatementRowException extends RuntimeException {
+    private final long lineNumber;
+
+    public StatementRowException(long lineNumber, String message) {
+        super(message);
+        this.lineNumber = lineNumber;
+    }
+}
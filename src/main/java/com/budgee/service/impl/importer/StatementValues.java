@@ -0,0 +1,61 @@
+package com.budgee.service.impl.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.budgee.enums.TransactionType;
+
+/** Field parsing shared by the statement parsers. */
+final class StatementValues {
+
+    static final DateTimeFormatter DAY_FIRST = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    StatementValues() {}
+
+    static LocalDate parseDate(long line, String value) {
+        String trimmed = required(line, "date", value);
+        try {
+            return trimmed.contains("/")
+                    ? LocalDate.parse(trimmed, DAY_FIRST)
+                    : LocalDate.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new StatementRowException(line, "invalid date: " + trimmed);
+        }
+    }
+
+    static BigDecimal parseAmount(long line, String value) {
+        String trimmed = required(line, "amount", value).replace(",", "").replace(" ", "");
+        try {
+            return new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            throw new StatementRowException(line, "invalid amount: " + trimmed);
+        }
+    }
+
+    /** Explicit type wins; otherwise a negative amount is an expense. */
+    static TransactionType resolveType(long line, String explicitType, BigDecimal signedAmount) {
+        if (explicitType != null && !explicitType.isBlank()) {
+            try {
+                return TransactionType.valueOf(explicitType.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new StatementRowException(line, "invalid type: " + explicitType);
+            }
+        }
+
+        return signedAmount.signum() < 0 ? TransactionType.EXPENSE : TransactionType.INCOME;
+    }
+
+    static String required(long line, String field, String value) {
+        if (value == null || value.isBlank()) {
+            throw new StatementRowException(line, field + " is required");
+        }
+
+        return value.trim();
+    }
+
+    static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
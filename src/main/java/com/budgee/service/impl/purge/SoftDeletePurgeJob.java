@@ -0,0 +1,232 @@
+package com.budgee.service.impl.purge;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.exception.NotFoundException;
+import com.budgee.repository.BudgetRepository;
+import com.budgee.service.WalletDomainService;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Removes wallets and categories flagged as deleted together with the rows that still point at
+ * them. Transactions go in chunks of {@code chunk-size} with a pause between chunks, and every
+ * statement runs in its own short transaction, so no request waits long on a row lock. The flag
+ * itself is the only state: a purge cut short by a crash or shutdown simply continues on the next
+ * run, and the flagged row is removed last. Budgets not tied to the purged wallet or category
+ * counted its transactions, so their spent is reversed chunk by chunk as the transactions are
+ * deleted; for a category the balances of the still-live wallets are reversed as well.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "SOFT-DELETE-PURGE-JOB")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SoftDeletePurgeJob {
+
+    static String LOCK_CHUNK = "SELECT id FROM transactions WHERE %s = ? LIMIT ? FOR UPDATE";
+
+    // reverses each transaction's effect on its wallet, in wallet id order to keep lock order
+    static String WALLET_REVERSALS =
+            """
+            SELECT wallet_id,
+                   SUM(CASE type
+                           WHEN 'INCOME' THEN -amount
+                           WHEN 'EXPENSE' THEN amount
+                           ELSE 0
+                       END)
+            FROM transactions
+            WHERE id IN (%s) AND wallet_id IS NOT NULL
+            GROUP BY wallet_id
+            ORDER BY wallet_id
+            """;
+
+    // budgets not tied to the purged wallet or category outlive it and counted these expenses;
+    // formatted with the purged column, then the other one
+    static String BUDGET_REVERSALS =
+            """
+            SELECT b.id, SUM(t.amount)
+            FROM transactions t
+            JOIN budgets b ON b.user_id = t.user_id
+                          AND b.%1$s IS NULL
+                          AND (b.%2$s IS NULL OR b.%2$s = t.%2$s)
+                          AND t.date BETWEEN b.start_date AND b.end_date
+            WHERE t.id IN (%3$s) AND t.type = 'EXPENSE' AND t.wallet_id IS NOT NULL
+              AND b.deleted = false
+            GROUP BY b.id
+            ORDER BY b.id
+            """;
+
+    static String DETACH_RECURRING =
+            """
+            UPDATE transactions SET recurring_id = NULL
+            WHERE recurring_id IN (SELECT id FROM recurring_transactions WHERE %s = ?)
+            """;
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    BudgetRepository budgetRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    WalletDomainService walletDomainService;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.purge.chunk-size:1000}")
+    int CHUNK_SIZE;
+
+    @NonFinal
+    @Value("${budgee.purge.pause-ms:200}")
+    long PAUSE_MS;
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Scheduled(
+            fixedDelayString = "${budgee.purge.interval-ms:60000}",
+            initialDelayString = "${budgee.purge.interval-ms:60000}")
+    public void purgeDeleted() {
+        List<UUID> walletIds = findFlagged("wallets");
+        List<UUID> categoryIds = findFlagged("categories");
+
+        if (walletIds.isEmpty() && categoryIds.isEmpty()) return;
+
+        log.info("[purgeDeleted] wallets={} categories={}", walletIds.size(), categoryIds.size());
+
+        try {
+            for (UUID walletId : walletIds) {
+                purge("wallets", "wallet_id", walletId);
+            }
+            for (UUID categoryId : categoryIds) {
+                purge("categories", "category_id", categoryId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[purgeDeleted] interrupted, remaining rows are purged on the next run");
+        }
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    List<UUID> findFlagged(String table) {
+        return jdbcTemplate.query(
+                "SELECT id FROM " + table + " WHERE deleted = true",
+                (rs, rowNum) -> UuidBytes.fromBytes(rs.getBytes(1)));
+    }
+
+    void purge(String table, String column, UUID id) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        byte[] key = UuidBytes.toBytes(id);
+
+        long transactions = 0;
+        int deleted;
+        do {
+            deleted = deleteChunk(column, key);
+            transactions += deleted;
+
+            if (deleted == CHUNK_SIZE) Thread.sleep(PAUSE_MS);
+        } while (deleted == CHUNK_SIZE);
+
+        // occurrences of these recurrences that were moved to another wallet or category survive
+        jdbcTemplate.update(DETACH_RECURRING.formatted(column), key);
+        jdbcTemplate.update("DELETE FROM recurring_transactions WHERE " + column + " = ?", key);
+        jdbcTemplate.update("DELETE FROM budgets WHERE " + column + " = ?", key);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE id = ? AND deleted = true", key);
+
+        log.info(
+                "[purge] {} id={} transactions={} elapsedMs={}",
+                table,
+                id,
+                transactions,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Deletes one chunk of the transactions of a wallet or category, reversing their effect on the
+     * budgets and, for a category, the wallets that survive it, in the same transaction.
+     */
+    int deleteChunk(String column, byte[] key) {
+        Integer deleted = transactionTemplate.execute(status -> lockAndDeleteChunk(column, key));
+
+        return deleted == null ? 0 : deleted;
+    }
+
+    int lockAndDeleteChunk(String column, byte[] key) {
+        List<byte[]> ids =
+                jdbcTemplate.query(
+                        LOCK_CHUNK.formatted(column),
+                        (rs, rowNum) -> rs.getBytes(1),
+                        key,
+                        CHUNK_SIZE);
+        if (ids.isEmpty()) return 0;
+
+        Object[] args = ids.toArray();
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        boolean category = "category_id".equals(column);
+
+        if (category) {
+            reverseWallets(
+                    jdbcTemplate.query(WALLET_REVERSALS.formatted(in), this::toReversal, args));
+        }
+
+        String budgets =
+                BUDGET_REVERSALS.formatted(column, category ? "wallet_id" : "category_id", in);
+        reverseBudgets(jdbcTemplate.query(budgets, this::toReversal, args));
+
+        return jdbcTemplate.update("DELETE FROM transactions WHERE id IN (" + in + ")", args);
+    }
+
+    void reverseWallets(List<Reversal> reversals) {
+        for (Reversal reversal : reversals) {
+            try {
+                walletDomainService.applyBalanceDelta(reversal.id(), reversal.amount());
+            } catch (NotFoundException e) {
+                log.warn("[reverseWallets] walletId={} is gone, not reversed", reversal.id());
+            }
+        }
+    }
+
+    void reverseBudgets(List<Reversal> reversals) {
+        Instant now = Instant.now();
+
+        for (Reversal reversal : reversals) {
+            budgetRepository.applySpentDelta(reversal.id(), reversal.amount().negate(), now);
+        }
+    }
+
+    Reversal toReversal(ResultSet rs, int rowNum) throws SQLException {
+        return new Reversal(UuidBytes.fromBytes(rs.getBytes(1)), rs.getBigDecimal(2));
+    }
+
+    record Reversal(UUID id, BigDecimal amount) {}
+}
@@ -0,0 +1,313 @@
+package com.budgee.service.impl.reconciliation;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.budgee.enums.ReconciliationStatus;
+import com.budgee.exception.NotFoundException;
+import com.budgee.model.WalletReconciliationRun;
+import com.budgee.repository.WalletReconciliationRunRepository;
+import com.budgee.service.WalletDomainService;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Checks every wallet balance against {@code opening_balance} plus the net of its transactions.
+ * Wallets are walked in id order one page at a time; a page is split into id-range slices that
+ * run in parallel on the reconciliation pool, and the run's {@code lastWalletId} checkpoint moves
+ * only after the whole page is done. A run that stops early is resumed by the next one.
+ *
+ * <p>Mismatches are upserted into {@code wallet_balance_mismatches}, one row per run and wallet,
+ * so a page repeated on resume does not report its wallets twice. With auto-fix the drift is
+ * applied as a balance delta, so writes that land while the job runs are not lost. Wallets without
+ * an opening balance get one seeded from their current state and are not reported.
+ */
+@Component
+@Slf4j(topic = "WALLET-RECONCILIATION-JOB")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class WalletReconciliationJob {
+
+    static String NEXT_PAGE =
+            "SELECT id FROM wallets WHERE deleted = false AND id > ? ORDER BY id LIMIT ?";
+
+    static String EXPECTED_BALANCES =
+            """
+            SELECT w.id, w.user_id, w.balance, w.opening_balance,
+                   COALESCE(SUM(CASE t.type
+                                    WHEN 'INCOME' THEN t.amount
+                                    WHEN 'EXPENSE' THEN -t.amount
+                                    ELSE 0
+                                END), 0) AS net
+            FROM wallets w
+            LEFT JOIN transactions t ON t.wallet_id = w.id
+            WHERE w.id BETWEEN ? AND ? AND w.deleted = false
+            GROUP BY w.id, w.user_id, w.balance, w.opening_balance
+            """;
+
+    static String SEED_OPENING_BALANCE =
+            "UPDATE wallets SET opening_balance = ? WHERE id = ? AND opening_balance IS NULL";
+
+    // a page retried after a failed run lands on the rows its first attempt wrote
+    static String UPSERT_MISMATCH =
+            """
+            INSERT INTO wallet_balance_mismatches
+            (id, created_at, updated_at, deleted, run_id, wallet_id, user_id,
+             recorded_balance, expected_balance, drift, fixed)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?) AS incoming
+            ON DUPLICATE KEY UPDATE
+                recorded_balance = incoming.recorded_balance,
+                expected_balance = incoming.expected_balance,
+                drift = incoming.drift,
+                fixed = wallet_balance_mismatches.fixed OR incoming.fixed,
+                updated_at = incoming.updated_at
+            """;
+
+    static byte[] BEFORE_FIRST_ID = new byte[16];
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    WalletReconciliationRunRepository runRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    WalletDomainService walletDomainService;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JdbcTemplate jdbcTemplate;
+    Executor reconciliationExecutor;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.reconciliation.auto-fix:false}")
+    boolean AUTO_FIX;
+
+    @NonFinal
+    @Value("${budgee.reconciliation.page-size:2000}")
+    int PAGE_SIZE;
+
+    @NonFinal
+    @Value("${budgee.reconciliation.slice-size:250}")
+    int SLICE_SIZE;
+
+    public WalletReconciliationJob(
+            WalletReconciliationRunRepository runRepository,
+            WalletDomainService walletDomainService,
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("reconciliationExecutor") Executor reconciliationExecutor) {
+        this.runRepository = runRepository;
+        this.walletDomainService = walletDomainService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconciliationExecutor = reconciliationExecutor;
+    }
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Scheduled(cron = "${budgee.reconciliation.cron:-}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        WalletReconciliationRun run =
+                runRepository
+                        .findFirstByStatusOrderByCreatedAtDesc(ReconciliationStatus.RUNNING)
+                        .orElseGet(this::startRun);
+
+        log.info("[reconcile] runId={} resumeAfter={}", run.getId(), run.getLastWalletId());
+
+        byte[] after =
+                run.getLastWalletId() == null
+                        ? BEFORE_FIRST_ID
+                        : UuidBytes.toBytes(run.getLastWalletId());
+
+        List<byte[]> page;
+        do {
+            page = jdbcTemplate.query(NEXT_PAGE, (rs, rowNum) -> rs.getBytes(1), after, PAGE_SIZE);
+            if (page.isEmpty()) break;
+
+            SliceResult result;
+            try {
+                result = reconcilePage(run, page);
+            } catch (CompletionException e) {
+                log.error(
+                        "[reconcile] runId={} stopped after walletId={}: {}",
+                        run.getId(),
+                        run.getLastWalletId(),
+                        e.getCause().getMessage());
+                return;
+            }
+
+            after = page.get(page.size() - 1);
+            checkpoint(run, UuidBytes.fromBytes(after), result);
+        } while (page.size() == PAGE_SIZE);
+
+        run.setStatus(ReconciliationStatus.COMPLETED);
+        run.setFinishedAt(Instant.now());
+        runRepository.save(run);
+
+        log.info(
+                "[reconcile] runId={} checked={} mismatches={} fixed={} baselined={} elapsedMs={}",
+                run.getId(),
+                run.getWalletsChecked(),
+                run.getMismatches(),
+                run.getFixed(),
+                run.getBaselined(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    WalletReconciliationRun startRun() {
+        return runRepository.save(
+                WalletReconciliationRun.builder()
+                        .status(ReconciliationStatus.RUNNING)
+                        .autoFix(AUTO_FIX)
+                        .build());
+    }
+
+    SliceResult reconcilePage(WalletReconciliationRun run, List<byte[]> page) {
+        UUID runId = run.getId();
+        boolean autoFix = run.isAutoFix();
+
+        List<CompletableFuture<SliceResult>> slices = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += SLICE_SIZE) {
+            byte[] first = page.get(from);
+            byte[] last = page.get(Math.min(from + SLICE_SIZE, page.size()) - 1);
+
+            slices.add(
+                    CompletableFuture.supplyAsync(
+                            () -> reconcileSlice(runId, autoFix, first, last),
+                            reconciliationExecutor));
+        }
+
+        return slices.stream()
+                .map(CompletableFuture::join)
+                .reduce(SliceResult.EMPTY, SliceResult::plus);
+    }
+
+    SliceResult reconcileSlice(UUID runId, boolean autoFix, byte[] first, byte[] last) {
+        List<WalletBalance> balances =
+                jdbcTemplate.query(
+                        EXPECTED_BALANCES,
+                        (rs, rowNum) ->
+                                new WalletBalance(
+                                        UuidBytes.fromBytes(rs.getBytes(1)),
+                                        UuidBytes.fromBytes(rs.getBytes(2)),
+                                        rs.getBigDecimal(3),
+                                        rs.getBigDecimal(4),
+                                        rs.getBigDecimal(5)),
+                        first,
+                        last);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        byte[] runIdBytes = UuidBytes.toBytes(runId);
+
+        List<Object[]> seeds = new ArrayList<>();
+        List<Object[]> mismatches = new ArrayList<>();
+        long fixed = 0;
+
+        for (WalletBalance wallet : balances) {
+            if (wallet.openingBalance() == null) {
+                seeds.add(
+                        new Object[] {
+                            wallet.balance().subtract(wallet.net()),
+                            UuidBytes.toBytes(wallet.walletId())
+                        });
+                continue;
+            }
+
+            BigDecimal expected = wallet.openingBalance().add(wallet.net());
+            BigDecimal drift = expected.subtract(wallet.balance());
+            if (drift.signum() == 0) continue;
+
+            boolean applied = autoFix && fix(wallet.walletId(), drift);
+            if (applied) fixed++;
+
+            mismatches.add(
+                    new Object[] {
+                        UuidBytes.toBytes(UUID.randomUUID()),
+                        now,
+                        now,
+                        runIdBytes,
+                        UuidBytes.toBytes(wallet.walletId()),
+                        UuidBytes.toBytes(wallet.userId()),
+                        wallet.balance(),
+                        expected,
+                        drift,
+                        applied
+                    });
+        }
+
+        if (!seeds.isEmpty()) jdbcTemplate.batchUpdate(SEED_OPENING_BALANCE, seeds);
+        if (!mismatches.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_MISMATCH, mismatches);
+
+        return new SliceResult(balances.size(), mismatches.size(), fixed, seeds.size());
+    }
+
+    boolean fix(UUID walletId, BigDecimal drift) {
+        try {
+            walletDomainService.applyBalanceDelta(walletId, drift);
+            log.warn("[fix] walletId={} drift={}", walletId, drift);
+
+            return true;
+        } catch (NotFoundException e) {
+            log.warn("[fix] walletId={} is gone, drift not applied", walletId);
+
+            return false;
+        }
+    }
+
+    void checkpoint(WalletReconciliationRun run, UUID lastWalletId, SliceResult result) {
+        run.setLastWalletId(lastWalletId);
+        run.setWalletsChecked(run.getWalletsChecked() + result.checked());
+        run.setMismatches(run.getMismatches() + result.mismatches());
+        run.setFixed(run.getFixed() + result.fixed());
+        run.setBaselined(run.getBaselined() + result.baselined());
+
+        runRepository.save(run);
+    }
+
+    record WalletBalance(
+            UUID walletId,
+            UUID userId,
+            BigDecimal balance,
+            BigDecimal openingBalance,
+            BigDecimal net) {}
+
+    record SliceResult(long checked, long mismatches, long fixed, long baselined) {
+
+        static SliceResult EMPTY = new SliceResult(0, 0, 0, 0);
+
+        SliceResult plus(SliceResult other) {
+            return new SliceResult(
+                    checked + other.checked,
+                    mismatches + other.mismatches,
+                    fixed + other.fixed,
+                    baselined + other.baselined);
+        }
+    }
+}
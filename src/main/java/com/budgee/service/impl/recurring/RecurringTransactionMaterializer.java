@@ -0,0 +1,317 @@
+package com.budgee.service.impl.recurring;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.budgee.enums.Frequency;
+import com.budgee.model.RecurringTransaction;
+import com.budgee.repository.RecurringTransactionRepository;
+import com.budgee.service.BudgetTrackingService;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.TransactionRollupService;
+import com.budgee.service.WalletDomainService;
+import com.budgee.service.impl.rollup.RollupDelta;
+import com.budgee.util.UuidBytes;
+
+/**
+ * Turns due {@link RecurringTransaction}s into {@code Transaction} rows. Work is partitioned by
+ * user and partitions run in parallel, each in one database transaction: the user's due
+ * recurrences are row-locked, every missed occurrence up to today is batch-inserted, wallets get
+ * one delta each and {@code nextDate} moves past the last occurrence. Occurrences that already
+ * exist are read under the lock and skipped, so runs are idempotent; the unique key on
+ * (recurring_id, date) backs that up without hiding any other constraint error.
+ */
+@Component
+@Slf4j(topic = "RECURRING-TRANSACTION-MATERIALIZER")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RecurringTransactionMaterializer {
+
+    // includes soft-deleted rows, which still hold their (recurring_id, date) key
+    static String FIND_EXISTING =
+            """
+            SELECT recurring_id, date
+            FROM transactions
+            WHERE recurring_id IN (%s) AND date >= ? AND date <= ?
+            """;
+
+    // only the unique-key conflict is absorbed; FK, NOT NULL and truncation errors still fail
+    static String INSERT_OCCURRENCE =
+            """
+            INSERT INTO transactions
+            (id, created_at, updated_at, deleted, user_id, wallet_id, category_id,
+             type, amount, date, time, note, recurring_id)
+            VALUES (?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    RecurringTransactionRepository recurringTransactionRepository;
+
+    // -------------------------------------------------------------------
+    // SERVICE
+    // -------------------------------------------------------------------
+    WalletDomainService walletDomainService;
+    TransactionRollupService transactionRollupService;
+    BudgetTrackingService budgetTrackingService;
+    GoalTrackingService goalTrackingService;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+    Executor recurringExecutor;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.recurring.max-occurrences-per-run:400}")
+    int MAX_OCCURRENCES_PER_RUN;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    public RecurringTransactionMaterializer(
+            RecurringTransactionRepository recurringTransactionRepository,
+            WalletDomainService walletDomainService,
+            TransactionRollupService transactionRollupService,
+            BudgetTrackingService budgetTrackingService,
+            GoalTrackingService goalTrackingService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("recurringExecutor") Executor recurringExecutor) {
+        this.recurringTransactionRepository = recurringTransactionRepository;
+        this.walletDomainService = walletDomainService;
+        this.transactionRollupService = transactionRollupService;
+        this.budgetTrackingService = budgetTrackingService;
+        this.goalTrackingService = goalTrackingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recurringExecutor = recurringExecutor;
+    }
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @Scheduled(cron = "${budgee.recurring.cron:0 5 0 * * *}")
+    public void materializeDue() {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now(clock);
+        List<UUID> userIds = recurringTransactionRepository.findUserIdsWithDue(today);
+
+        AtomicLong created = new AtomicLong();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> partitions = new ArrayList<>(userIds.size());
+        for (UUID userId : userIds) {
+            partitions.add(
+                    CompletableFuture.runAsync(
+                                    () -> created.addAndGet(materializeForUser(userId, today)),
+                                    recurringExecutor)
+                            .exceptionally(
+                                    e -> {
+                                        failed.incrementAndGet();
+                                        log.error(
+                                                "[materializeDue] userId={} failed: {}",
+                                                userId,
+                                                e.getMessage());
+                                        return null;
+                                    }));
+        }
+        CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new)).join();
+
+        log.info(
+                "[materializeDue] users={} created={} failed={} elapsedMs={}",
+                userIds.size(),
+                created.get(),
+                failed.get(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Materializes every occurrence of the user's recurrences due on or before {@code today}.
+     *
+     * @return number of transactions inserted
+     */
+    public int materializeForUser(UUID userId, LocalDate today) {
+        Integer inserted =
+                transactionTemplate.execute(
+                        status -> {
+                            List<RecurringTransaction> due =
+                                    recurringTransactionRepository.lockDueForUser(userId, today);
+
+                            return due.isEmpty() ? 0 : materialize(userId, due, today);
+                        });
+
+        return inserted == null ? 0 : inserted;
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    int materialize(UUID userId, List<RecurringTransaction> due, LocalDate today) {
+        Timestamp now = Timestamp.from(Instant.now(clock));
+        byte[] userIdBytes = UuidBytes.toBytes(userId);
+        Set<Occurrence> existing = findExisting(due, today);
+
+        List<Object[]> rows = new ArrayList<>();
+        List<RecurringTransaction> sources = new ArrayList<>();
+        List<LocalDate> dates = new ArrayList<>();
+        Map<UUID, LocalDate> nextDates = new LinkedHashMap<>();
+
+        for (RecurringTransaction recurring : due) {
+            LocalDate anchor = recurring.getNextDate();
+            LocalDate occurrence = anchor;
+            int n = 0;
+
+            while (!occurrence.isAfter(today) && n < MAX_OCCURRENCES_PER_RUN) {
+                if (!existing.contains(new Occurrence(recurring.getId(), occurrence))) {
+                    rows.add(toRow(recurring, userIdBytes, occurrence, now));
+                    sources.add(recurring);
+                    dates.add(occurrence);
+                }
+
+                // stepping from the anchor keeps month-end dates from drifting within a run
+                occurrence = step(anchor, recurring.getFrequency(), ++n);
+            }
+
+            nextDates.put(recurring.getId(), occurrence);
+        }
+
+        if (!rows.isEmpty()) jdbcTemplate.batchUpdate(INSERT_OCCURRENCE, rows);
+
+        // schedules advance only once their occurrences are written
+        nextDates.forEach(
+                (recurringId, next) ->
+                        recurringTransactionRepository.updateNextDate(
+                                recurringId, next, now.toInstant()));
+
+        Map<UUID, BigDecimal> walletDeltas = new TreeMap<>();
+        List<RollupDelta> rollups = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            RecurringTransaction recurring = sources.get(i);
+            UUID walletId = recurring.getWallet().getId();
+
+            walletDeltas.merge(
+                    walletId,
+                    walletDomainService.signedAmount(recurring.getType(), recurring.getAmount()),
+                    BigDecimal::add);
+            rollups.add(
+                    RollupDelta.of(
+                            userId,
+                            walletId,
+                            recurring.getCategory() == null
+                                    ? null
+                                    : recurring.getCategory().getId(),
+                            recurring.getType(),
+                            dates.get(i),
+                            recurring.getAmount(),
+                            1));
+        }
+
+        walletDeltas.forEach(walletDomainService::applyBalanceDelta);
+        transactionRollupService.apply(rollups);
+        budgetTrackingService.apply(rollups);
+        goalTrackingService.apply(rollups);
+
+        log.debug(
+                "[materialize] userId={} recurrences={} inserted={}",
+                userId,
+                due.size(),
+                rows.size());
+
+        return rows.size();
+    }
+
+    /** Occurrences of the locked recurrences already written between their next date and today. */
+    Set<Occurrence> findExisting(List<RecurringTransaction> due, LocalDate today) {
+        LocalDate from =
+                due.stream()
+                        .map(RecurringTransaction::getNextDate)
+                        .min(LocalDate::compareTo)
+                        .orElseThrow();
+
+        List<Object> args = new ArrayList<>(due.size() + 2);
+        due.forEach(recurring -> args.add(UuidBytes.toBytes(recurring.getId())));
+        args.add(Date.valueOf(from));
+        args.add(Date.valueOf(today));
+
+        String in = String.join(",", Collections.nCopies(due.size(), "?"));
+
+        return new HashSet<>(
+                jdbcTemplate.query(
+                        FIND_EXISTING.formatted(in),
+                        (rs, rowNum) ->
+                                new Occurrence(
+                                        UuidBytes.fromBytes(rs.getBytes("recurring_id")),
+                                        rs.getDate("date").toLocalDate()),
+                        args.toArray()));
+    }
+
+    Object[] toRow(
+            RecurringTransaction recurring, byte[] userIdBytes, LocalDate date, Timestamp now) {
+        return new Object[] {
+            UuidBytes.toBytes(UUID.randomUUID()),
+            now,
+            now,
+            userIdBytes,
+            UuidBytes.toBytes(recurring.getWallet().getId()),
+            recurring.getCategory() == null
+                    ? null
+                    : UuidBytes.toBytes(recurring.getCategory().getId()),
+            recurring.getType().name(),
+            recurring.getAmount(),
+            Date.valueOf(date),
+            Time.valueOf(LocalTime.MIDNIGHT),
+            recurring.getNote(),
+            UuidBytes.toBytes(recurring.getId())
+        };
+    }
+
+    LocalDate step(LocalDate anchor, Frequency frequency, int n) {
+        return switch (frequency) {
+            case DAILY -> anchor.plusDays(n);
+            case WEEKLY -> anchor.plusWeeks(n);
+            case MONTHLY -> anchor.plusMonths(n);
+            case YEARLY -> anchor.plusYears(n);
+        };
+    }
+
+    record Occurrence(UUID recurringId, LocalDate date) {}
+}
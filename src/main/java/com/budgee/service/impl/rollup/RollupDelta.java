@@ -0,0 +1,65 @@
+package com.budgee.service.impl.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.budgee.enums.TransactionType;
+import com.budgee.model.Transaction;
+
+/** Signed contribution of transactions to one daily rollup row. */
+public record RollupDelta(
+        UUID userId,
+        UUID walletId,
+        UUID categoryId,
+        TransactionType type,
+        LocalDate date,
+        BigDecimal amount,
+        long count) {
+
+    /** Stands in for a missing category so it can take part in the rollup unique key. */
+    public static final UUID NO_CATEGORY = new UUID(0L, 0L);
+
+    public static RollupDelta added(Transaction transaction) {
+        return of(transaction, 1);
+    }
+
+    public static RollupDelta removed(Transaction transaction) {
+        return of(transaction, -1);
+    }
+
+    public static RollupDelta of(
+            UUID userId,
+            UUID walletId,
+            UUID categoryId,
+            TransactionType type,
+            LocalDate date,
+            BigDecimal amount,
+            long count) {
+        return new RollupDelta(
+                userId,
+                walletId,
+                categoryId == null ? NO_CATEGORY : categoryId,
+                type,
+                date,
+                amount,
+                count);
+    }
+
+    static RollupDelta of(Transaction transaction, int sign) {
+        BigDecimal amount = transaction.getAmount();
+
+        return of(
+                transaction.getUser().getId(),
+                transaction.getWallet().getId(),
+                transaction.getCategory() == null ? null : transaction.getCategory().getId(),
+                transaction.getType(),
+                transaction.getDate(),
+                sign < 0 ? amount.negate() : amount,
+                sign);
+    }
+
+    public LocalDate monthStart() {
+        return date.withDayOfMonth(1);
+    }
+}
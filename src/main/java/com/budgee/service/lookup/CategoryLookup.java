@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
@@ -13,6 +14,8 @@ import com.budgee.exception.ErrorCode;
 import com.budgee.exception.NotFoundException;
 import com.budgee.model.Category;
 import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.projection.CategoryRef;
+import com.budgee.repository.projection.SystemCategory;
 import com.budgee.util.AuthContext;
 
 @Component
@@ -30,21 +33,54 @@ public class CategoryLookup {
     // UTILITIES
     // -------------------------------------------------------------------
     AuthContext authContext;
+    UserReferenceCache userReferenceCache;
+    SystemCategoryCatalog systemCategoryCatalog;
 
     public Category getCategoryById(UUID id) {
         log.debug("[getCategoryById]={}", id);
 
         return categoryRepository
                 .findById(id)
+                .filter(category -> !category.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.CATEGORY_NOT_FOUND));
     }
 
     public Category getCategoryForCurrentUser(UUID categoryId) {
         log.debug("[getCategoryForCurrentUser] categoryId={}", categoryId);
 
+        // system categories are shared by every user
+        if (systemCategoryCatalog.contains(categoryId)) {
+            return categoryRepository.getReferenceById(categoryId);
+        }
+
         Category category = this.getCategoryById(categoryId);
         authContext.checkIsOwner(category);
 
         return category;
     }
+
+    /** Id, name and type of the current user's category, served from the reference cache. */
+    public CategoryRef getCategoryRefForCurrentUser(UUID categoryId) {
+        log.debug("[getCategoryRefForCurrentUser] categoryId={}", categoryId);
+
+        Optional<SystemCategory> systemCategory = systemCategoryCatalog.find(categoryId);
+        if (systemCategory.isPresent()) return systemCategory.get().toRef();
+
+        UUID userId = authContext.getAuthenticatedUserId();
+
+        return userReferenceCache
+                .findCategory(userId, categoryId)
+                .orElseGet(
+                        () -> {
+                            Category category = getCategoryForCurrentUser(categoryId);
+
+                            return new CategoryRef(
+                                    category.getId(), category.getName(), category.getType());
+                        });
+    }
+
+    /** Unloaded reference for associations; pair with an ownership check. */
+    public Category getCategoryReference(UUID categoryId) {
+        return categoryRepository.getReferenceById(categoryId);
+    }
 }
@@ -0,0 +1,112 @@
+package com.budgee.service.lookup;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.projection.SystemCategory;
+
+/**
+ * Default categories shared by all users. They are stored once, as {@code isDefault} rows created
+ * by an admin, and held here as one immutable snapshot that is merged with each user's own
+ * categories at read time. A reload builds a new snapshot and swaps it with one volatile write;
+ * it runs after an admin changes a default category and on a fixed delay, so other instances
+ * catch up as well. A failed reload keeps the previous snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "SYSTEM-CATEGORY-CATALOG")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SystemCategoryCatalog {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    CategoryRepository categoryRepository;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal volatile Snapshot snapshot = new Snapshot(List.of(), Map.of());
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /** All system categories, ordered by name. */
+    public List<SystemCategory> categories() {
+        return snapshot.categories();
+    }
+
+    public Optional<SystemCategory> find(UUID categoryId) {
+        return Optional.ofNullable(snapshot.byId().get(categoryId));
+    }
+
+    public boolean contains(UUID categoryId) {
+        return snapshot.byId().containsKey(categoryId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${budgee.system-categories.reload-interval-ms:60000}",
+            initialDelayString = "${budgee.system-categories.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            List<SystemCategory> categories =
+                    List.copyOf(categoryRepository.findSystemCategories());
+
+            snapshot =
+                    new Snapshot(
+                            categories,
+                            categories.stream()
+                                    .collect(
+                                            Collectors.toUnmodifiableMap(
+                                                    SystemCategory::id, Function.identity())));
+            log.debug("[reload] categories={}", categories.size());
+        } catch (Exception e) {
+            log.error("[reload] keeping previous catalog: {}", e.getMessage());
+        }
+    }
+
+    /** Reloads once the current transaction commits, or right away outside a transaction. */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        reload();
+                    }
+                });
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    record Snapshot(List<SystemCategory> categories, Map<UUID, SystemCategory> byId) {}
+}
@@ -0,0 +1,206 @@
+package com.budgee.service.lookup;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryRef;
+
+/**
+ * Bounded, expiring cache of each user's category metadata and wallet ids, so the ownership and
+ * type checks on every transaction write do not need two {@code findById} queries. A user's
+ * references are loaded together on first use; users with more than {@code max-refs-per-user}
+ * references are not cached. An id that is not in the entry is a miss and callers fall back to
+ * the database, so a stale entry can only hide a new wallet or category until invalidation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j(topic = "USER-REFERENCE-CACHE")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class UserReferenceCache {
+
+    // -------------------------------------------------------------------
+    // REPOSITORY
+    // -------------------------------------------------------------------
+    CategoryRepository categoryRepository;
+    WalletRepository walletRepository;
+
+    // -------------------------------------------------------------------
+    // HELPER
+    // -------------------------------------------------------------------
+    MeterRegistry meterRegistry;
+
+    // -------------------------------------------------------------------
+    // PRIVATE FIELDS
+    // -------------------------------------------------------------------
+    @NonFinal
+    @Value("${budgee.reference-cache.enabled:true}")
+    boolean ENABLED;
+
+    @NonFinal
+    @Value("${budgee.reference-cache.max-users:10000}")
+    int MAX_USERS;
+
+    @NonFinal
+    @Value("${budgee.reference-cache.max-refs-per-user:2000}")
+    int MAX_REFS_PER_USER;
+
+    @NonFinal
+    @Value("${budgee.reference-cache.ttl-seconds:300}")
+    long TTL_SECONDS;
+
+    Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    LongAdder hits = new LongAdder();
+    LongAdder misses = new LongAdder();
+
+    // -------------------------------------------------------------------
+    // PUBLIC FUNCTION
+    // -------------------------------------------------------------------
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("budgee.reference.cache.size", entries, Map::size).register(meterRegistry);
+        Gauge.builder("budgee.reference.cache.hit.ratio", this, UserReferenceCache::hitRatio)
+                .register(meterRegistry);
+        FunctionCounter.builder("budgee.reference.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("budgee.reference.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /** The user's category, or empty when it is not cached and must be read from the database. */
+    public Optional<CategoryRef> findCategory(UUID userId, UUID categoryId) {
+        Entry entry = entry(userId);
+        CategoryRef category = entry == null ? null : entry.categories().get(categoryId);
+
+        record(category != null);
+
+        return Optional.ofNullable(category);
+    }
+
+    /** {@code true} only when the wallet is cached as the user's; {@code false} means unknown. */
+    public boolean ownsWallet(UUID userId, UUID walletId) {
+        Entry entry = entry(userId);
+        boolean owned = entry != null && entry.walletIds().contains(walletId);
+
+        record(owned);
+
+        return owned;
+    }
+
+    public void invalidate(UUID userId) {
+        log.debug("[invalidate] userId={}", userId);
+
+        entries.remove(userId);
+    }
+
+    /**
+     * Drops the user's entry now and again once the current transaction commits, so a load that
+     * races with the write cannot keep the old state cached.
+     */
+    public void invalidateAfterCommit(UUID userId) {
+        invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            invalidate(userId);
+                        }
+                    });
+        }
+    }
+
+    public double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    // -------------------------------------------------------------------
+    // PRIVATE FUNCTION
+    // -------------------------------------------------------------------
+
+    Entry entry(UUID userId) {
+        if (!ENABLED) return null;
+
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now) return entry;
+
+        log.debug("[entry] loading references userId={}", userId);
+
+        List<CategoryRef> categories = categoryRepository.findRefsByUserId(userId);
+        Set<UUID> walletIds = walletRepository.findIdsByUserId(userId);
+
+        if (categories.size() + walletIds.size() > MAX_REFS_PER_USER) {
+            entries.remove(userId);
+            return null;
+        }
+
+        entry =
+                new Entry(
+                        categories.stream()
+                                .collect(
+                                        Collectors.toUnmodifiableMap(
+                                                CategoryRef::id, Function.identity())),
+                        Set.copyOf(walletIds),
+                        now + TTL_SECONDS * 1000);
+
+        if (entries.size() >= MAX_USERS) evict(now);
+        entries.put(userId, entry);
+
+        return entry;
+    }
+
+    void record(boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+    }
+
+    void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        // still full of live entries: drop an arbitrary tenth to make room
+        Iterator<UUID> iterator = entries.keySet().iterator();
+        int toRemove = entries.size() - (MAX_USERS - MAX_USERS / 10);
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    record Entry(Map<UUID, CategoryRef> categories, Set<UUID> walletIds, long expiresAt) {}
+}
@@ -30,17 +30,24 @@ public class WalletLookup {
     // UTILITIES
     // -------------------------------------------------------------------
     AuthContext authContext;
+    UserReferenceCache userReferenceCache;
 
     public Wallet getWalletById(UUID id) {
         log.debug("[getWalletById]={}", id);
 
         return walletRepository
                 .findById(id)
+                .filter(wallet -> !wallet.isDeleted())
                 .orElseThrow(() -> new NotFoundException(ErrorCode.WALLET_NOT_FOUND));
     }
 
     public Wallet getWalletForCurrentUser(UUID walletId) {
-        log.debug("[getWalletForCurrentUser] categoryId={}", walletId);
+        log.debug("[getWalletForCurrentUser] walletId={}", walletId);
+
+        // balance writes still go through WalletDomainService, whose UPDATE locks the real row
+        if (userReferenceCache.ownsWallet(authContext.getAuthenticatedUserId(), walletId)) {
+            return walletRepository.getReferenceById(walletId);
+        }
 
         Wallet wallet = this.getWalletById(walletId);
         authContext.checkIsOwner(wallet);
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.UUID;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,8 @@ import com.budgee.exception.AuthenticationException;
 import com.budgee.exception.ErrorCode;
 import com.budgee.model.OwnerEntity;
 import com.budgee.model.User;
+import com.budgee.repository.UserRepository;
+import com.budgee.service.impl.auth.AuthPrincipal;
 
 @Component
 @Slf4j(topic = "SECURITY-HELPER")
@@ -23,6 +27,7 @@ public class AuthContext {
     // -------------------------------------------------------------------
     // REPOSITORY
     // -------------------------------------------------------------------
+    UserRepository userRepository;
 
     // -------------------------------------------------------------------
     // SERVICE
@@ -51,16 +56,34 @@ public class AuthContext {
     public User getAuthenticatedUser() {
         log.debug("[getAuthenticatedUser]");
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
-            throw new AuthenticationException(ErrorCode.FORBIDDEN);
-        }
+        Object principal = getPrincipal();
+        if (principal instanceof User user) return user;
 
-        return user;
+        // claims-based principal: hand out a lazy reference, no users query unless a field is read
+        return userRepository.getReferenceById(((AuthPrincipal) principal).userId());
+    }
+
+    public UUID getAuthenticatedUserId() {
+        log.debug("[getAuthenticatedUserId]");
+
+        Object principal = getPrincipal();
+        if (principal instanceof User user) return user.getId();
+
+        return ((AuthPrincipal) principal).userId();
     }
 
     // -------------------------------------------------------------------
     // PRIVATE FUNCTION
     // -------------------------------------------------------------------
 
+    Object getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !(authentication.getPrincipal() instanceof User
+                        || authentication.getPrincipal() instanceof AuthPrincipal)) {
+            throw new AuthenticationException(ErrorCode.FORBIDDEN);
+        }
+
+        return authentication.getPrincipal();
+    }
 }
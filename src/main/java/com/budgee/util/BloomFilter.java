@@ -0,0 +1,172 @@
+package com.budgee.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter over strings. Bits live in an {@link AtomicLongArray}, so
+ * concurrent {@link #put} and {@link #mightContain} calls need no locking. Probe positions come
+ * from double hashing of a single 128-bit murmur3 hash.
+ */
+public final class BloomFilter {
+
+    final AtomicLongArray bits;
+    final long bitCount;
+    final int hashCount;
+
+    BloomFilter(long bitCount, int hashCount) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+    }
+
+    /** Sizes the filter for {@code expectedInsertions} at the given false-positive probability. */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        m = Math.max(64, Math.min(m, (long) Integer.MAX_VALUE * 64));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String value) {
+        long[] hash = hash(value);
+        long combined = hash[0];
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitCount;
+            setBit(bit);
+            combined += hash[1];
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hash = hash(value);
+        long combined = hash[0];
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (combined & Long.MAX_VALUE) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+            combined += hash[1];
+        }
+
+        return true;
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = bits.get(index);
+            if ((current & mask) != 0) return;
+        } while (!bits.compareAndSet(index, current, current | mask));
+    }
+
+    // murmur3 x64 128-bit, seed 0
+    static long[] hash(String value) {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i * 16);
+            long k2 = getLong(data, i * 16 + 8);
+
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        switch (data.length & 15) {
+            case 15:
+                k2 ^= (long) (data[tail + 14] & 0xff) << 48;
+            case 14:
+                k2 ^= (long) (data[tail + 13] & 0xff) << 40;
+            case 13:
+                k2 ^= (long) (data[tail + 12] & 0xff) << 32;
+            case 12:
+                k2 ^= (long) (data[tail + 11] & 0xff) << 24;
+            case 11:
+                k2 ^= (long) (data[tail + 10] & 0xff) << 16;
+            case 10:
+                k2 ^= (long) (data[tail + 9] & 0xff) << 8;
+            case 9:
+                k2 ^= data[tail + 8] & 0xff;
+                k2 *= c2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= c1;
+                h2 ^= k2;
+            case 8:
+                k1 ^= (long) (data[tail + 7] & 0xff) << 56;
+            case 7:
+                k1 ^= (long) (data[tail + 6] & 0xff) << 48;
+            case 6:
+                k1 ^= (long) (data[tail + 5] & 0xff) << 40;
+            case 5:
+                k1 ^= (long) (data[tail + 4] & 0xff) << 32;
+            case 4:
+                k1 ^= (long) (data[tail + 3] & 0xff) << 24;
+            case 3:
+                k1 ^= (long) (data[tail + 2] & 0xff) << 16;
+            case 2:
+                k1 ^= (long) (data[tail + 1] & 0xff) << 8;
+            case 1:
+                k1 ^= data[tail] & 0xff;
+                k1 *= c1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= c2;
+                h1 ^= k1;
+            default:
+        }
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        return new long[] {h1, h2};
+    }
+
+    static long getLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
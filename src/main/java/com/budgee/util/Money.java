@@ -0,0 +1,58 @@
+package com.budgee.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money as a {@code long} count of minor units, i.e. hundredths, matching the {@code
+ * scale = 2} of the amount columns. Arithmetic is exact and throws {@link ArithmeticException} on
+ * overflow; convert back with {@link #toBigDecimal()} at the API boundary.
+ */
+public record Money(long minorUnits) {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    static final long[] POWERS_OF_TEN = {1, 10, 100};
+
+    // every unscaled value with at most 18 digits fits a long
+    static final int MAX_COMPACT_PRECISION = 18;
+
+    public static Money of(BigDecimal amount) {
+        return new Money(toMinorUnits(amount));
+    }
+
+    /**
+     * Amounts with more than two decimals are rounded half-up, as the database does on insert.
+     * Column values come back with scale 2 and at most 18 digits; their unscaled value is read
+     * through {@code movePointRight}, which for such compact values builds no {@code BigInteger}.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        int scale = amount.scale();
+
+        if (scale >= 0 && scale <= SCALE && amount.precision() <= MAX_COMPACT_PRECISION) {
+            long unscaled = amount.movePointRight(scale).longValueExact();
+
+            return Math.multiplyExact(unscaled, POWERS_OF_TEN[SCALE - scale]);
+        }
+
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money max(Money other) {
+        return minorUnits >= other.minorUnits ? this : other;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+}
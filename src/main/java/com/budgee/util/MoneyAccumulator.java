@@ -0,0 +1,40 @@
+package com.budgee.util;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Mutable running total in minor units, for summing many amounts without allocating a {@link
+ * BigDecimal} per addition. Not thread-safe; use one accumulator per thread.
+ */
+public final class MoneyAccumulator {
+
+    long minorUnits;
+
+    public static <T> Money sum(Iterable<T> items, Function<? super T, BigDecimal> amount) {
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (T item : items) {
+            total.add(amount.apply(item));
+        }
+
+        return total.toMoney();
+    }
+
+    public MoneyAccumulator add(BigDecimal amount) {
+        minorUnits = Math.addExact(minorUnits, Money.toMinorUnits(amount));
+        return this;
+    }
+
+    public MoneyAccumulator subtract(BigDecimal amount) {
+        minorUnits = Math.subtractExact(minorUnits, Money.toMinorUnits(amount));
+        return this;
+    }
+
+    public Money toMoney() {
+        return new Money(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, Money.SCALE);
+    }
+}
@@ -0,0 +1,47 @@
+package com.budgee.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.budgee.exception.ErrorCode;
+import com.budgee.exception.ValidationException;
+import com.budgee.model.Transaction;
+
+/**
+ * Position in the transaction feed, i.e. the {@code (date, time, id)} of the last row a client
+ * has seen. Travels as an opaque base64url token.
+ */
+public record TransactionCursor(LocalDate date, LocalTime time, UUID id) {
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(
+                transaction.getDate(), transaction.getTime(), transaction.getId());
+    }
+
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+
+            return new TransactionCursor(
+                    LocalDate.parse(parts[0]),
+                    LocalTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ValidationException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = date + "|" + time + "|" + id;
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.budgee.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/** Converts {@link UUID} ids to the 16-byte form Hibernate stores in {@code BINARY(16)} columns. */
+public final class UuidBytes {
+
+    UuidBytes() {}
+
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,138 @@
+package com.budgee.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.budgee.enums.Currency;
+import com.budgee.enums.TransactionType;
+import com.budgee.payload.request.ReportFilter;
+import com.budgee.payload.response.CashFlowResponse;
+import com.budgee.payload.response.CategoryReportResponse;
+import com.budgee.repository.DailyTransactionRollupRepository;
+import com.budgee.repository.MonthlyTransactionRollupRepository;
+import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryTotal;
+import com.budgee.repository.projection.PeriodTotal;
+import com.budgee.service.impl.fx.FxRateRegistry;
+import com.budgee.service.impl.fx.FxRateSnapshot;
+import com.budgee.util.AuthContext;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceImplTest {
+
+    static final UUID USER_ID = UUID.randomUUID();
+    static final UUID FOOD = UUID.randomUUID();
+    static final UUID RENT = UUID.randomUUID();
+    static final LocalDate FROM = LocalDate.of(2024, 1, 5);
+    static final LocalDate TO = LocalDate.of(2024, 1, 20);
+
+    @Mock DailyTransactionRollupRepository dailyRollupRepository;
+    @Mock MonthlyTransactionRollupRepository monthlyRollupRepository;
+    @Mock WalletRepository walletRepository;
+    @Mock AuthContext authContext;
+    @Mock FxRateRegistry fxRateRegistry;
+
+    @InjectMocks ReportServiceImpl reportService;
+
+    @BeforeEach
+    void setUp() {
+        // 1 VND = 0.00004 USD
+        FxRateSnapshot rates =
+                new FxRateSnapshot(
+                        Currency.USD,
+                        Map.of(Currency.VND, new BigDecimal("0.00004")),
+                        Instant.now());
+
+        when(authContext.getAuthenticatedUserId()).thenReturn(USER_ID);
+        when(fxRateRegistry.current()).thenReturn(rates);
+        when(walletRepository.findReportableIds(USER_ID, false))
+                .thenReturn(Set.of(UUID.randomUUID(), UUID.randomUUID()));
+    }
+
+    @Test
+    void categoryTotalsAreConvertedBeforeTheyAreCombinedAndRanked() {
+        when(dailyRollupRepository.sumByCategory(
+                        eq(USER_ID), any(), eq(FROM), eq(TO), eq(TransactionType.EXPENSE)))
+                .thenReturn(
+                        List.of(
+                                total(FOOD, "Food", Currency.VND, "250000.00", 3),
+                                total(FOOD, "Food", Currency.USD, "5.00", 1),
+                                total(RENT, "Rent", Currency.USD, "8.00", 1)));
+
+        CategoryReportResponse report =
+                reportService.getSpendingByCategory(
+                        new ReportFilter(FROM, TO, null, null, false, Currency.USD));
+
+        assertEquals(Currency.USD, report.getCurrency());
+        assertEquals(0, new BigDecimal("23.00").compareTo(report.getTotal()));
+        assertEquals(2, report.getCategories().size());
+
+        CategoryTotal food = report.getCategories().get(0);
+        assertEquals(FOOD, food.categoryId());
+        assertEquals(Currency.USD, food.currency());
+        assertEquals(0, new BigDecimal("15.00").compareTo(food.total()));
+        assertEquals(4, food.txCount());
+    }
+
+    @Test
+    void topCategoriesRankByConvertedTotal() {
+        // 1,000,000 VND is only 40 USD, less than the 50 USD rent
+        when(dailyRollupRepository.sumByCategory(
+                        eq(USER_ID), any(), eq(FROM), eq(TO), eq(TransactionType.EXPENSE)))
+                .thenReturn(
+                        List.of(
+                                total(FOOD, "Food", Currency.VND, "1000000.00", 10),
+                                total(RENT, "Rent", Currency.USD, "50.00", 1)));
+
+        CategoryReportResponse report =
+                reportService.getTopCategories(
+                        new ReportFilter(FROM, TO, null, null, false, Currency.USD), 1);
+
+        assertEquals(1, report.getCategories().size());
+        assertEquals(RENT, report.getCategories().get(0).categoryId());
+    }
+
+    @Test
+    void cashFlowConvertsEachCurrencyToTheReportCurrency() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        when(monthlyRollupRepository.sumByMonth(eq(USER_ID), any(), eq(month), eq(month)))
+                .thenReturn(
+                        List.of(
+                                period(month, TransactionType.INCOME, Currency.VND, "500000.00"),
+                                period(month, TransactionType.INCOME, Currency.USD, "30.00"),
+                                period(month, TransactionType.EXPENSE, Currency.USD, "12.50")));
+
+        CashFlowResponse cashFlow = reportService.getCashFlow(1, null, false, null);
+
+        assertEquals(Currency.USD, cashFlow.getCurrency());
+        assertEquals(0, new BigDecimal("50.00").compareTo(cashFlow.getTotalIncome()));
+        assertEquals(0, new BigDecimal("12.50").compareTo(cashFlow.getTotalExpense()));
+        assertEquals(0, new BigDecimal("37.50").compareTo(cashFlow.getMonths().get(0).getNet()));
+    }
+
+    CategoryTotal total(UUID id, String name, Currency currency, String amount, long count) {
+        return new CategoryTotal(
+                id, name, TransactionType.EXPENSE, currency, new BigDecimal(amount), count);
+    }
+
+    PeriodTotal period(LocalDate month, TransactionType type, Currency currency, String amount) {
+        return new PeriodTotal(month, type, currency, new BigDecimal(amount), 1L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.budgee.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.budgee.enums.BatchOperation;
+import com.budgee.enums.TransactionType;
+import com.budgee.exception.ErrorCode;
+import com.budgee.mapper.TransactionMapper;
+import com.budgee.model.Category;
+import com.budgee.model.Transaction;
+import com.budgee.model.User;
+import com.budgee.model.Wallet;
+import com.budgee.payload.request.TransactionBatchRequest;
+import com.budgee.payload.request.TransactionMutation;
+import com.budgee.payload.request.TransactionRequest;
+import com.budgee.payload.response.TransactionBatchItemResult;
+import com.budgee.payload.response.TransactionBatchResponse;
+import com.budgee.repository.CategoryRepository;
+import com.budgee.repository.TransactionRepository;
+import com.budgee.repository.UserRepository;
+import com.budgee.repository.WalletRepository;
+import com.budgee.repository.projection.CategoryRef;
+import com.budgee.service.BudgetTrackingService;
+import com.budgee.service.GoalTrackingService;
+import com.budgee.service.TransactionRollupService;
+import com.budgee.service.WalletDomainService;
+import com.budgee.service.lookup.SystemCategoryCatalog;
+import com.budgee.util.AuthContext;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchServiceImplTest {
+
+    static final UUID USER_ID = UUID.randomUUID();
+    static final UUID WALLET_ID = UUID.randomUUID();
+    static final UUID CATEGORY_ID = UUID.randomUUID();
+
+    @Mock TransactionRepository transactionRepository;
+    @Mock WalletRepository walletRepository;
+    @Mock CategoryRepository categoryRepository;
+    @Mock UserRepository userRepository;
+    @Mock WalletDomainService walletDomainService;
+    @Mock TransactionRollupService transactionRollupService;
+    @Mock BudgetTrackingService budgetTrackingService;
+    @Mock GoalTrackingService goalTrackingService;
+    @Mock TransactionMapper transactionMapper;
+    @Mock AuthContext authContext;
+    @Mock SystemCategoryCatalog systemCategoryCatalog;
+    @Spy Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks TransactionBatchServiceImpl transactionBatchService;
+
+    @Test
+    void anInvalidItemFailsAloneAndTheRestOfTheBatchIsApplied() {
+        BigDecimal amount = new BigDecimal("12.50");
+        TransactionRequest invalid = request(null);
+        TransactionRequest valid = request(amount);
+
+        when(authContext.getAuthenticatedUserId()).thenReturn(USER_ID);
+        when(walletRepository.findOwnedIds(eq(USER_ID), anyCollection()))
+                .thenReturn(Set.of(WALLET_ID));
+        when(categoryRepository.findRefsByUserIdAndIdIn(eq(USER_ID), anyCollection()))
+                .thenReturn(List.of(new CategoryRef(CATEGORY_ID, "Food", TransactionType.EXPENSE)));
+        when(transactionMapper.toTransaction(eq(valid), any(), any(), any()))
+                .thenReturn(transaction(amount));
+        when(walletDomainService.signedAmount(TransactionType.EXPENSE, amount))
+                .thenReturn(amount.negate());
+
+        TransactionBatchResponse response =
+                transactionBatchService.applyBatch(
+                        new TransactionBatchRequest(
+                                List.of(
+                                        new TransactionMutation(
+                                                BatchOperation.CREATE, null, invalid),
+                                        new TransactionMutation(
+                                                BatchOperation.CREATE, null, valid))));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+
+        TransactionBatchItemResult rejected = response.getResults().get(0);
+        assertFalse(rejected.isSuccess());
+        assertEquals(ErrorCode.VALIDATION_FAILED.getCode(), rejected.getErrorCode());
+        assertTrue(rejected.getMessage().contains("data.amount"));
+
+        TransactionBatchItemResult accepted = response.getResults().get(1);
+        assertTrue(accepted.isSuccess());
+        assertNull(accepted.getErrorCode());
+
+        verify(walletDomainService).applyBalanceDelta(WALLET_ID, amount.negate());
+        verify(transactionRepository).saveAll(any());
+    }
+
+    @Test
+    void aMissingOperationIsReportedOnItsItem() {
+        when(authContext.getAuthenticatedUserId()).thenReturn(USER_ID);
+
+        TransactionBatchResponse response =
+                transactionBatchService.applyBatch(
+                        new TransactionBatchRequest(
+                                List.of(new TransactionMutation(null, UUID.randomUUID(), null))));
+
+        assertEquals(0, response.getSucceeded());
+        assertEquals(
+                ErrorCode.VALIDATION_FAILED.getCode(), response.getResults().get(0).getErrorCode());
+    }
+
+    TransactionRequest request(BigDecimal amount) {
+        return new TransactionRequest(
+                amount,
+                TransactionType.EXPENSE,
+                WALLET_ID,
+                CATEGORY_ID,
+                LocalDate.of(2024, 3, 1),
+                LocalTime.NOON,
+                null);
+    }
+
+    Transaction transaction(BigDecimal amount) {
+        User user = new User();
+        user.setId(USER_ID);
+        Wallet wallet = new Wallet();
+        wallet.setId(WALLET_ID);
+        Category category = new Category();
+        category.setId(CATEGORY_ID);
+
+        return Transaction.builder()
+                .user(user)
+                .wallet(wallet)
+                .category(category)
+                .amount(amount)
+                .type(TransactionType.EXPENSE)
+                .date(LocalDate.of(2024, 3, 1))
+                .time(LocalTime.NOON)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.budgee.service.impl.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.budgee.enums.TransactionType;
+
+class OfxStatementParserTest {
+
+    @Test
+    void parsesRecordsWrittenOnASingleLine() throws IOException {
+        String ofx =
+                "OFXHEADER:100 DATA:OFXSGML<OFX><BANKTRANLIST>"
+                        + "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240105101530<TRNAMT>-12.50"
+                        + "<NAME>Coffee<MEMO>Morning</STMTTRN>"
+                        + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240106<TRNAMT>100.00"
+                        + "<NAME>Salary</STMTTRN>"
+                        + "</BANKTRANLIST></OFX>";
+
+        try (OfxStatementParser parser = parser(ofx)) {
+            ImportedRow first = parser.next();
+            assertEquals(1, first.lineNumber());
+            assertEquals(LocalDate.of(2024, 1, 5), first.date());
+            assertEquals(LocalTime.of(10, 15, 30), first.time());
+            assertEquals(new BigDecimal("12.50"), first.amount());
+            assertEquals(TransactionType.EXPENSE, first.type());
+            assertEquals("Coffee - Morning", first.note());
+
+            ImportedRow second = parser.next();
+            assertEquals(2, second.lineNumber());
+            assertEquals(new BigDecimal("100.00"), second.amount());
+            assertEquals(TransactionType.INCOME, second.type());
+            assertEquals("Salary", second.note());
+
+            assertNull(parser.next());
+        }
+    }
+
+    @Test
+    void parsesXmlRecordsWithSeveralTagsPerLine() throws IOException {
+        String ofx =
+                """
+                <?xml version="1.0"?>
+                <OFX>
+                  <STMTTRN><TRNTYPE>DEBIT</TRNTYPE>
+                    <DTPOSTED>20240105</DTPOSTED><TRNAMT>-3.20</TRNAMT></STMTTRN>
+                </OFX>
+                """;
+
+        try (OfxStatementParser parser = parser(ofx)) {
+            ImportedRow row = parser.next();
+            assertEquals(new BigDecimal("3.20"), row.amount());
+            assertEquals(LocalDate.of(2024, 1, 5), row.date());
+
+            assertNull(parser.next());
+        }
+    }
+
+    OfxStatementParser parser(String ofx) {
+        return new OfxStatementParser(new BufferedReader(new StringReader(ofx)));
+    }
+}
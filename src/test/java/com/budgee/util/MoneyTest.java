@@ -0,0 +1,63 @@
+package com.budgee.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void toMinorUnitsReadsColumnScaleValues() {
+        assertEquals(1234, Money.toMinorUnits(new BigDecimal("12.34")));
+        assertEquals(-1234, Money.toMinorUnits(new BigDecimal("-12.34")));
+        assertEquals(0, Money.toMinorUnits(new BigDecimal("0.00")));
+    }
+
+    @Test
+    void toMinorUnitsWidensSmallerScales() {
+        assertEquals(1200, Money.toMinorUnits(new BigDecimal("12")));
+        assertEquals(1250, Money.toMinorUnits(new BigDecimal("12.5")));
+        assertEquals(120000, Money.toMinorUnits(new BigDecimal("1.2E+3")));
+    }
+
+    @Test
+    void toMinorUnitsRoundsHalfUp() {
+        assertEquals(1235, Money.toMinorUnits(new BigDecimal("12.345")));
+        assertEquals(1234, Money.toMinorUnits(new BigDecimal("12.3449")));
+        assertEquals(-1235, Money.toMinorUnits(new BigDecimal("-12.345")));
+        assertEquals(1, Money.toMinorUnits(new BigDecimal("0.005")));
+    }
+
+    @Test
+    void toMinorUnitsThrowsWhenTheAmountDoesNotFitALong() {
+        assertThrows(
+                ArithmeticException.class,
+                () -> Money.toMinorUnits(new BigDecimal("92233720368547758.08")));
+        assertThrows(
+                ArithmeticException.class,
+                () -> Money.toMinorUnits(new BigDecimal("922337203685477581")));
+    }
+
+    @Test
+    void arithmeticThrowsOnOverflow() {
+        Money max = new Money(Long.MAX_VALUE);
+        Money min = new Money(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(new Money(1)));
+        assertThrows(ArithmeticException.class, () -> min.minus(new Money(1)));
+        assertThrows(
+                ArithmeticException.class,
+                () -> new MoneyAccumulator().add(max.toBigDecimal()).add(new BigDecimal("0.01")));
+    }
+
+    @Test
+    void sumAddsInMinorUnits() {
+        Money total = MoneyAccumulator.sum(List.of("0.10", "0.20", "0.30"), BigDecimal::new);
+
+        assertEquals(new BigDecimal("0.60"), total.toBigDecimal());
+    }
+}